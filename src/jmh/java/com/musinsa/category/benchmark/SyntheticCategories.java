@@ -0,0 +1,85 @@
+package com.musinsa.category.benchmark;
+
+import com.musinsa.category.domain.entity.Category;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 합성 카테고리 트리 (DB 없이 메모리에서 측정할 때 사용)
+ * 최상위 카테고리 ROOT_COUNT개 아래를 BFS 순서로 fanout개씩 채운 트리 (ID 1부터 연속)
+ * DB 적재는 같은 모양으로 설정한 SyntheticCategoryGenerator 사용
+ */
+public final class SyntheticCategories {
+
+    public static final int ROOT_COUNT = 10;
+
+    public enum Shape {
+        // 3단계 정도의 넓고 얕은 트리 (상품 카테고리 대부분)
+        WIDE_SHALLOW,
+        // 자식 2개씩 내려가는 깊고 좁은 트리 (1k: 7단계, 1M: 17단계)
+        DEEP_NARROW;
+
+        public int fanout(int size) {
+            return switch (this) {
+                case WIDE_SHALLOW -> Math.max(2, (int) Math.ceil(Math.sqrt((double) size / ROOT_COUNT)));
+                case DEEP_NARROW -> 2;
+            };
+        }
+    }
+
+    private SyntheticCategories() {
+    }
+
+    /**
+     * @param id 1부터 시작하는 ID
+     * @param fanout
+     * @return 최상위면 null
+     */
+    public static Long parentId(long id, int fanout) {
+        long index = id - 1;
+        return index < ROOT_COUNT ? null : (index - ROOT_COUNT) / fanout + 1;
+    }
+
+    /**
+     * 형제 사이 정렬 순서 (형제마다 역순으로 매겨 정렬이 실제로 일어나도록 함)
+     */
+    public static int sortOrder(long id, int fanout) {
+        long index = id - 1;
+        return index < ROOT_COUNT ? (int) (ROOT_COUNT - index) : (int) (fanout - (index - ROOT_COUNT) % fanout);
+    }
+
+    /**
+     * 활성 카테고리 조회 결과처럼 sort_order 순으로 정렬된 엔티티 목록 (DB 없이 트리 구성 측정용)
+     * @param shape
+     * @param size
+     * @return
+     */
+    public static List<Category> categories(Shape shape, int size) {
+        int fanout = shape.fanout(size);
+        List<Category> categories = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Category category = Category.builder()
+                    .parentId(parentId(id, fanout))
+                    .name("category-" + id)
+                    .slug("category-" + id)
+                    .sortOrder(sortOrder(id, fanout))
+                    .build();
+            setId(category, id);
+            categories.add(category);
+        }
+        categories.sort((left, right) -> Integer.compare(left.getSortOrder(), right.getSortOrder()));
+        return categories;
+    }
+
+    private static void setId(Category category, long id) {
+        try {
+            Field field = Category.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(category, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.musinsa.category.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.cache.CategoryTreeSnapshot;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import com.musinsa.category.dto.response.PagingResponse;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * CategoryTreeResponse 트리 JSON 직렬화
+ * fullTree: 전체 조회 응답, shallowTree: depth=1 조회 응답 (잘린 노드의 자식 수 포함)
+ */
+@State(Scope.Benchmark)
+public class TreeSerializationBenchmark {
+
+    @Param({"WIDE_SHALLOW", "DEEP_NARROW"})
+    private SyntheticCategories.Shape shape;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PagingResponse<CategoryTreeResponse> fullTree;
+    private PagingResponse<CategoryTreeResponse> shallowTree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, SyntheticCategories.categories(shape, size));
+        fullTree = PagingResponse.of(snapshot.getRoots());
+        shallowTree = PagingResponse.of(snapshot.getRoots().stream().map(root -> root.truncate(1)).toList());
+    }
+
+    @Benchmark
+    public byte[] fullTree() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullTree);
+    }
+
+    @Benchmark
+    public byte[] shallowTree() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(shallowTree);
+    }
+}
@@ -0,0 +1,75 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.MusinsaCategoryApplication;
+import com.musinsa.category.benchmark.SyntheticCategories;
+import com.musinsa.category.config.CategoryProperties.SubtreeFetch;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 인메모리 H2에서 최상위 카테고리 하나의 하위 트리 조회 (조회 + 트리 구성)
+ * 트리 캐시를 끄고 category.subtree-fetch 방식별로 CategoryFetchingService#getCategoryWithDescendants 경로를 측정
+ */
+@State(Scope.Benchmark)
+public class SubtreeFetchBenchmark {
+
+    @Param({"BFS", "RECURSIVE_CTE", "PATH", "CLOSURE"})
+    private SubtreeFetch subtreeFetch;
+
+    @Param({"WIDE_SHALLOW", "DEEP_NARROW"})
+    private SyntheticCategories.Shape shape;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    // depth 제한 조회 (-1이면 제한 없음)
+    @Param({"-1", "1"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private CategoryFetchingService categoryFetchingService;
+    // 최상위 카테고리가 ROOT_COUNT개이므로 조회 대상 하위 트리는 전체의 약 1/10
+    // 생성기는 기존 최대 ID/시퀀스 다음부터 ID를 부여하므로 생성 이후 실제 최상위 ID를 읽음
+    private long rootId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MusinsaCategoryApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "category.tree-cache.enabled=false",
+                        "category.closure-table.enabled=" + (subtreeFetch == SubtreeFetch.CLOSURE),
+                        "category.subtree-fetch=" + subtreeFetch.name(),
+                        // SyntheticCategories와 같은 모양 (최상위 ROOT_COUNT개, 고정 fanout, 깊이 제한 없음)
+                        "category.synthetic-data.size=" + size,
+                        "category.synthetic-data.root-count=" + SyntheticCategories.ROOT_COUNT,
+                        "category.synthetic-data.fanout-min=" + shape.fanout(size),
+                        "category.synthetic-data.fanout-max=" + shape.fanout(size),
+                        "category.synthetic-data.max-depth=" + Integer.MAX_VALUE)
+                .run();
+        categoryFetchingService = context.getBean(CategoryFetchingService.class);
+        rootId = context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT MIN(id) FROM categories WHERE parent_id IS NULL", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CategoryTreeResponse fetchSubtree() {
+        return depth < 0
+                ? categoryFetchingService.getCategoryWithChildren(rootId)
+                : categoryFetchingService.getCategoryWithChildren(rootId, depth);
+    }
+}
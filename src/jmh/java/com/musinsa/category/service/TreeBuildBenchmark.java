@@ -0,0 +1,61 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.benchmark.SyntheticCategories;
+import com.musinsa.category.cache.CategoryTreeSnapshot;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 평면 목록 -> 응답 트리 구성 (DB 조회 제외)
+ * buildTree: DB 조회 경로의 트리 구성 (CategoryFetchingService#buildResponseAsTree)
+ * buildTreeWithMaps: 배열 기반으로 바꾸기 전의 Map 기반 트리 구성 (buildTree와 gc.alloc.rate.norm 비교용)
+ * buildSnapshot: 트리 캐시 갱신 시 스냅샷 구성 (하위 트리 해시, slug/부모 포인터 인덱스 포함)
+ */
+@State(Scope.Benchmark)
+public class TreeBuildBenchmark {
+
+    @Param({"WIDE_SHALLOW", "DEEP_NARROW"})
+    private SyntheticCategories.Shape shape;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Category> categories;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        categories = SyntheticCategories.categories(shape, size);
+    }
+
+    @Benchmark
+    public List<CategoryTreeResponse> buildTree() {
+        return CategoryTreeArrays.of(categories).toRoots();
+    }
+
+    @Benchmark
+    public List<CategoryTreeResponse> buildTreeWithMaps() {
+        Map<Long, CategoryTreeResponse> nodeMap = categories.stream()
+                .collect(Collectors.toMap(Category::getId, CategoryTreeResponse::from));
+        Set<Long> childIds = new HashSet<>();
+        for (Category category : categories) {
+            if (category.hasParent() && nodeMap.containsKey(category.getParentId())) {
+                nodeMap.get(category.getParentId()).addChild(nodeMap.get(category.getId()));
+                childIds.add(category.getId());
+            }
+        }
+        return categories.stream()
+                .filter(category -> !childIds.contains(category.getId()))
+                .map(category -> nodeMap.get(category.getId()))
+                .sorted(Comparator.comparing(CategoryTreeResponse::getOrder))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CategoryTreeSnapshot buildSnapshot() {
+        return CategoryTreeSnapshot.of(1L, categories);
+    }
+}
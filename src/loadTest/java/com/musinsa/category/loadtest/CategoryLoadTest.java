@@ -0,0 +1,250 @@
+package com.musinsa.category.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 실행 중인 애플리케이션에 고정 동시성(closed loop)으로 요청을 보내 엔드포인트별 지연 시간/처리량 측정
+ * 엔드포인트마다 warmup 후 duration 동안 concurrency개 작업자가 응답을 받자마자 다음 요청을 보냄
+ * 요청에 쓸 카테고리 ID/slug는 NDJSON 내보내기에서 무작위로 SAMPLE_SIZE개 추출
+ *
+ * 옵션 (--name=value): baseUrl, concurrency, warmupSeconds, durationSeconds, endpoints(쉼표 구분), maxP99Millis
+ * maxP99Millis를 넘는 엔드포인트가 있으면 종료 코드 1
+ */
+public class CategoryLoadTest {
+
+    private static final int SAMPLE_SIZE = 10_000;
+    private static final int BREADCRUMB_IDS = 20;
+
+    private static final Map<String, Function<Targets, String>> ENDPOINTS = new LinkedHashMap<>();
+
+    static {
+        ENDPOINTS.put("tree", targets -> "/api/categories");
+        ENDPOINTS.put("tree-depth-1", targets -> "/api/categories?depth=1");
+        ENDPOINTS.put("subtree", targets -> "/api/categories/" + targets.randomId());
+        ENDPOINTS.put("subtree-depth-1", targets -> "/api/categories/" + targets.randomId() + "?depth=1");
+        ENDPOINTS.put("children", targets -> "/api/categories/" + targets.randomId() + "/children");
+        ENDPOINTS.put("ancestors", targets -> "/api/categories/" + targets.randomId() + "/ancestors");
+        ENDPOINTS.put("breadcrumbs", targets -> "/api/categories/ancestors?ids=" + targets.randomIds(BREADCRUMB_IDS));
+        ENDPOINTS.put("by-slug", targets -> "/api/categories/by-slug/" + targets.randomSlug());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(options.concurrency()))
+                .build();
+
+        Targets targets = Targets.load(client, options.baseUrl());
+        System.out.printf("base url: %s, concurrency: %d, warmup: %ds, duration: %ds, sampled categories: %d%n",
+                options.baseUrl(), options.concurrency(), options.warmupSeconds(), options.durationSeconds(), targets.size());
+        System.out.println(Result.HEADER);
+
+        List<Result> results = new ArrayList<>();
+        for (String endpoint : options.endpoints()) {
+            Function<Targets, String> path = ENDPOINTS.get(endpoint);
+            run(client, options, targets, endpoint, path, options.warmupSeconds());
+            Result result = run(client, options, targets, endpoint, path, options.durationSeconds());
+            results.add(result);
+            System.out.println(result.format());
+        }
+
+        if (options.maxP99Millis() != null) {
+            List<String> slow = results.stream()
+                    .filter(result -> result.percentileMillis(0.99) > options.maxP99Millis())
+                    .map(Result::endpoint)
+                    .toList();
+            if (!slow.isEmpty()) {
+                System.err.printf("p99 > %.1f ms: %s%n", options.maxP99Millis(), slow);
+                System.exit(1);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, Options options, Targets targets, String endpoint,
+                              Function<Targets, String> path, int seconds) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<Future<Latencies>> futures = new ArrayList<>();
+        for (int i = 0; i < options.concurrency(); i++) {
+            futures.add(workers.submit(() -> {
+                Latencies latencies = new Latencies();
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = HttpRequest.newBuilder(options.baseUrl().resolve(path.apply(targets)))
+                            .timeout(Duration.ofSeconds(60))
+                            .GET()
+                            .build();
+                    long requestedAt = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies.add(System.nanoTime() - requestedAt, status < 400);
+                    } catch (IOException e) {
+                        latencies.add(System.nanoTime() - requestedAt, false);
+                    }
+                }
+                return latencies;
+            }));
+        }
+
+        Latencies merged = new Latencies();
+        for (Future<Latencies> future : futures) {
+            try {
+                merged.addAll(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        workers.shutdown();
+        return new Result(endpoint, merged, (System.nanoTime() - startedAt) / 1e9);
+    }
+
+    record Options(URI baseUrl, int concurrency, int warmupSeconds, int durationSeconds,
+                   List<String> endpoints, Double maxP99Millis) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) throw new IllegalArgumentException("expected --name=value: " + arg);
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            String baseUrl = values.getOrDefault("baseUrl", "http://localhost:8080");
+            List<String> endpoints = values.containsKey("endpoints")
+                    ? Arrays.stream(values.get("endpoints").split(",")).map(String::trim).toList()
+                    : List.copyOf(ENDPOINTS.keySet());
+            for (String endpoint : endpoints) {
+                if (!ENDPOINTS.containsKey(endpoint)) {
+                    throw new IllegalArgumentException("unknown endpoint: " + endpoint + " " + ENDPOINTS.keySet());
+                }
+            }
+            return new Options(
+                    URI.create(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl),
+                    Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                    Integer.parseInt(values.getOrDefault("warmupSeconds", "5")),
+                    Integer.parseInt(values.getOrDefault("durationSeconds", "30")),
+                    endpoints,
+                    values.containsKey("maxP99Millis") ? Double.valueOf(values.get("maxP99Millis")) : null);
+        }
+    }
+
+    /**
+     * 요청 대상 카테고리 (NDJSON 내보내기에서 reservoir sampling으로 추출)
+     */
+    record Targets(long[] ids, String[] slugs) {
+
+        static Targets load(HttpClient client, URI baseUrl) throws IOException, InterruptedException {
+            HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/categories/export/ndjson")).GET().build();
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) throw new IllegalStateException("export failed: " + response.statusCode());
+
+            ObjectMapper objectMapper = new ObjectMapper();
+            Random random = new Random(1);
+            long[] ids = new long[SAMPLE_SIZE];
+            String[] slugs = new String[SAMPLE_SIZE];
+            int seen = 0;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                for (String line; (line = reader.readLine()) != null; ) {
+                    if (line.isBlank()) continue;
+                    int slot = seen < SAMPLE_SIZE ? seen : random.nextInt(seen + 1);
+                    seen++;
+                    if (slot >= SAMPLE_SIZE) continue;
+                    JsonNode category = objectMapper.readTree(line);
+                    ids[slot] = category.get("id").asLong();
+                    slugs[slot] = category.get("slug").asText();
+                }
+            }
+            if (seen == 0) throw new IllegalStateException("no categories to request (generate with --category.synthetic-data.size=N)");
+            int size = Math.min(seen, SAMPLE_SIZE);
+            return new Targets(Arrays.copyOf(ids, size), Arrays.copyOf(slugs, size));
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long randomId() {
+            return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        }
+
+        String randomIds(int count) {
+            return ThreadLocalRandom.current().ints(count, 0, ids.length)
+                    .mapToObj(index -> String.valueOf(ids[index]))
+                    .collect(Collectors.joining(","));
+        }
+
+        String randomSlug() {
+            return URLEncoder.encode(slugs[ThreadLocalRandom.current().nextInt(slugs.length)], StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 작업자별 응답 시간 (나노초) 기록
+     */
+    static final class Latencies {
+
+        private long[] values = new long[1 << 12];
+        private int size;
+        private long errors;
+
+        void add(long nanos, boolean success) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = nanos;
+            if (!success) errors++;
+        }
+
+        void addAll(Latencies other) {
+            if (size + other.size > values.length) values = Arrays.copyOf(values, size + other.size);
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+    }
+
+    record Result(String endpoint, long requests, long errors, double seconds, long[] sortedNanos) {
+
+        static final String HEADER = String.format("%-16s %10s %8s %12s %10s %10s %10s %10s",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        Result(String endpoint, Latencies latencies, double seconds) {
+            this(endpoint, latencies.size, latencies.errors, seconds, sorted(latencies));
+        }
+
+        private static long[] sorted(Latencies latencies) {
+            long[] values = Arrays.copyOf(latencies.values, latencies.size);
+            Arrays.sort(values);
+            return values;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) return 0;
+            int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, Math.min(sortedNanos.length - 1, index))] / 1e6;
+        }
+
+        String format() {
+            return String.format("%-16s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f",
+                    endpoint, requests, errors, requests / seconds,
+                    percentileMillis(0.50), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0));
+        }
+    }
+}
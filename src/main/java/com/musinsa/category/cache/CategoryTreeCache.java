@@ -0,0 +1,137 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.metrics.CategoryMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * 활성 카테고리 트리 스냅샷 보관소
+ * 조회는 volatile 참조를 읽기만 하므로 락이 없고, 변경은 커밋 이후 새 스냅샷으로 교체한다
+ * 단건 변경은 바뀐 카테고리와 조상만 새로 만든 스냅샷으로, 일괄 변경은 DB에서 다시 적재한 스냅샷으로 교체
+ * 현재 스냅샷의 카테고리 수/단계 수를 게이지로 노출 (적재 전이거나 캐시를 사용하지 않으면 0)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache implements MeterBinder {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryProperties categoryProperties;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile CategoryTreeSnapshot snapshot;
+
+    public boolean isEnabled() {
+        return categoryProperties.getTreeCache().isEnabled();
+    }
+
+    /**
+     * 현재 스냅샷 반환, 최초 호출 시에만 DB에서 적재
+     * @return
+     */
+    public CategoryTreeSnapshot getSnapshot() {
+        CategoryTreeSnapshot current = snapshot;
+        if (current != null) return current;
+
+        synchronized (this) {
+            return snapshot != null ? snapshot : refresh();
+        }
+    }
+
+    /**
+     * DB에서 활성 카테고리를 다시 읽어 스냅샷 교체
+     * @return
+     */
+    public synchronized CategoryTreeSnapshot refresh() {
+        List<Category> categories = categoryRepository.findAllByIsActiveTrueOrderBySortOrderAsc();
+        CategoryTreeSnapshot refreshed = CategoryTreeSnapshot.of(versionSequence.incrementAndGet(), categories);
+        this.snapshot = refreshed;
+        log.debug("category tree snapshot refreshed (version: {}, size: {})", refreshed.getVersion(), refreshed.size());
+        return refreshed;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(CategoryMetrics.TREE_SIZE, this, cache -> cache.measure(CategoryTreeSnapshot::size))
+                .description("트리 캐시 스냅샷의 활성 카테고리 수")
+                .register(registry);
+        Gauge.builder(CategoryMetrics.TREE_DEPTH, this, cache -> cache.measure(CategoryTreeSnapshot::getDepth))
+                .description("트리 캐시 스냅샷의 최대 단계 수")
+                .register(registry);
+    }
+
+    /**
+     * 게이지 수집 시 스냅샷을 적재하지 않도록 현재 참조만 읽음
+     */
+    private double measure(ToIntFunction<CategoryTreeSnapshot> metric) {
+        CategoryTreeSnapshot current = snapshot;
+        return current == null ? 0 : metric.applyAsInt(current);
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 이후 스냅샷 교체
+     * 아직 한번도 적재되지 않았다면 다음 조회 시 적재되므로 무시
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        apply(event);
+    }
+
+    /**
+     * 변경 이벤트를 현재 스냅샷에 반영 (일괄 변경이면 재적재)
+     * 다른 인스턴스의 변경을 반영할 때도 사용하므로 읽기 트랜잭션 안에서 호출해야 함
+     * @param event
+     */
+    public void apply(CategoryChangedEvent event) {
+        if (!isEnabled() || snapshot == null) return;
+        if (event.isBulk()) {
+            refresh();
+            return;
+        }
+        patch(event);
+    }
+
+    /**
+     * 바뀐 카테고리 한 건만 다시 읽어 현재 스냅샷에 반영
+     * 커밋된 최신 상태를 읽으므로 여러 쓰기의 이벤트 순서가 커밋 순서와 달라도 같은 결과가 됨
+     * 하위 카테고리가 최상위로 올라가는 등 부분 반영할 수 없으면 전체 재적재
+     * @param event
+     * @return
+     */
+    private synchronized CategoryTreeSnapshot patch(CategoryChangedEvent event) {
+        Category category = event.getType() == CategoryChangedEvent.Type.DELETED
+                ? null
+                : categoryRepository.findById(event.getCategoryId()).filter(Category::getIsActive).orElse(null);
+        Optional<CategoryTreeSnapshot> patched = snapshot.patch(versionSequence.get() + 1, event, category);
+        if (patched.isEmpty()) {
+            log.debug("category tree snapshot cannot be patched ({} {}), reloading", event.getType(), event.getCategoryId());
+            return refresh();
+        }
+        if (patched.get() != snapshot) {
+            versionSequence.incrementAndGet();
+            this.snapshot = patched.get();
+            log.debug("category tree snapshot patched (version: {}, {} {})",
+                    snapshot.getVersion(), event.getType(), event.getCategoryId());
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,390 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.dto.response.CategoryResponse;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 활성 카테고리 트리의 불변 스냅샷
+ * 생성 이후 변경되지 않으므로 여러 요청에서 락 없이 공유한다
+ * 단건 변경은 바뀐 가지만 새로 만든 스냅샷으로 반영하고 나머지 노드는 이전 스냅샷과 공유한다
+ */
+@Getter
+public class CategoryTreeSnapshot {
+
+    private static final int NO_PARENT = -1;
+    private static final int PARENT_NOT_LOADED = -2;
+    private static final Comparator<CategoryTreeResponse> SIBLING_ORDER =
+            Comparator.comparing(CategoryTreeResponse::getOrder).thenComparing(CategoryTreeResponse::getId);
+    private static final Comparator<Category> CATEGORY_ORDER =
+            Comparator.comparing(Category::getSortOrder).thenComparing(Category::getId);
+
+    private final long version;
+    private final List<CategoryTreeResponse> roots;
+    // 최상위를 1단계로 센 가장 깊은 단계 (비어 있으면 0)
+    private final int depth;
+    private final Map<Long, CategoryTreeResponse> nodeMap;
+    // (실제 부모 ID, slug) -> 노드, URL 경로를 최상위부터 한 단계씩 따라가는 데 사용
+    @Getter(AccessLevel.NONE)
+    private final Map<SlugKey, CategoryTreeResponse> nodesByParentAndSlug;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CategoryTreeResponse> nodesBySlug;
+    // 상위 경로 조회용 부모 포인터 배열 (ID 오름차순 정렬, 같은 위치끼리 대응)
+    @Getter(AccessLevel.NONE)
+    private final long[] sortedIds;
+    @Getter(AccessLevel.NONE)
+    private final int[] parentIndexes;
+    @Getter(AccessLevel.NONE)
+    private final CategoryResponse[] responses;
+
+    private CategoryTreeSnapshot(long version, List<CategoryTreeResponse> roots, int depth, Map<Long, CategoryTreeResponse> nodeMap,
+                                 Map<SlugKey, CategoryTreeResponse> nodesByParentAndSlug,
+                                 Map<String, CategoryTreeResponse> nodesBySlug,
+                                 long[] sortedIds, int[] parentIndexes, CategoryResponse[] responses) {
+        this.version = version;
+        this.roots = roots;
+        this.depth = depth;
+        this.nodeMap = nodeMap;
+        this.nodesByParentAndSlug = nodesByParentAndSlug;
+        this.nodesBySlug = nodesBySlug;
+        this.sortedIds = sortedIds;
+        this.parentIndexes = parentIndexes;
+        this.responses = responses;
+    }
+
+    /**
+     * 활성 카테고리 목록으로 스냅샷 생성
+     * 형제는 patch/keyset 조회와 같이 (sort_order, id) 순으로 정렬 (입력이 sort_order 순이면 거의 정렬된 상태라 비용이 작음)
+     * 부모가 목록에 없는 카테고리는 루트로 취급 (CategoryFetchingService의 트리 구성과 동일)
+     * @param version
+     * @param categories
+     * @return
+     */
+    public static CategoryTreeSnapshot of(long version, List<Category> categories) {
+        Set<Long> ids = new HashSet<>();
+        for (Category category : categories) {
+            ids.add(category.getId());
+        }
+
+        // 1. 부모 ID 별 자식 목록 ((sort_order, id) 순서 유지)
+        Map<Long, List<Category>> childrenByParentId = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+        for (Category category : categories.stream().sorted(CATEGORY_ORDER).toList()) {
+            if (category.hasParent() && ids.contains(category.getParentId())) {
+                childrenByParentId.computeIfAbsent(category.getParentId(), key -> new ArrayList<>()).add(category);
+            } else {
+                rootCategories.add(category);
+            }
+        }
+
+        // 2. 루트부터 BFS 순서로 나열 (한 단계의 첫 카테고리에 도달할 때 그 단계의 끝 위치가 확정됨)
+        List<Category> bfsOrder = new ArrayList<>(categories.size());
+        bfsOrder.addAll(rootCategories);
+        int depth = 0;
+        for (int i = 0, levelEnd = 0; i < bfsOrder.size(); i++) {
+            if (i == levelEnd) {
+                depth++;
+                levelEnd = bfsOrder.size();
+            }
+            bfsOrder.addAll(childrenByParentId.getOrDefault(bfsOrder.get(i).getId(), List.of()));
+        }
+
+        // 3. 역순으로 순회하며 자식이 먼저 완성된 상태에서 불변 노드와 하위 트리 해시를 생성
+        MessageDigest digest = newDigest();
+        Map<Long, CategoryTreeResponse> nodeMap = new HashMap<>(bfsOrder.size() * 2);
+        for (int i = bfsOrder.size() - 1; i >= 0; i--) {
+            Category category = bfsOrder.get(i);
+            List<CategoryTreeResponse> children = childrenByParentId.getOrDefault(category.getId(), List.of()).stream()
+                    .map(child -> nodeMap.get(child.getId()))
+                    .toList();
+            nodeMap.put(category.getId(), CategoryTreeResponse.of(category, children, subtreeHash(digest, category, children)));
+        }
+
+        List<CategoryTreeResponse> roots = rootCategories.stream()
+                .map(root -> nodeMap.get(root.getId()))
+                .toList();
+
+        List<CategoryTreeResponse> bfsNodes = bfsOrder.stream()
+                .map(category -> nodeMap.get(category.getId()))
+                .toList();
+        List<CategoryResponse> bfsResponses = bfsOrder.stream()
+                .map(CategoryResponse::from)
+                .toList();
+        return index(version, roots, depth, nodeMap, bfsNodes, bfsResponses);
+    }
+
+    /**
+     * 카테고리 하나의 변경을 반영한 새 스냅샷 (기존 스냅샷은 그대로 유지)
+     * 바뀐 카테고리와 그 조상 체인만 새 노드로 만들고 (하위 트리 해시 재계산) 다른 가지의 노드는 그대로 공유
+     * 인덱스는 노드/응답 참조를 BFS로 다시 모아 구성하므로 DB 조회와 해시 계산이 필요 없음
+     * @param version
+     * @param event 단건 변경 이벤트
+     * @param category 변경 이후 상태, 삭제되었거나 비활성이면 null
+     * @return 부분 반영할 수 없으면 비어 있음 (전체 재적재 필요), 바뀐 것이 없으면 현재 스냅샷
+     */
+    public Optional<CategoryTreeSnapshot> patch(long version, CategoryChangedEvent event, Category category) {
+        long id = event.getCategoryId();
+        CategoryTreeResponse oldNode = nodeMap.get(id);
+        if (oldNode == null && category == null) return Optional.of(this);
+        // 스냅샷에 없던 카테고리가 다시 나타나면 (재활성) 최상위로 나와 있던 하위 카테고리를 옮겨야 함
+        if (oldNode == null && event.getType() != CategoryChangedEvent.Type.CREATED) return Optional.empty();
+        // 하위 카테고리가 있는 카테고리가 빠지면 하위 카테고리가 최상위로 올라감
+        if (oldNode != null && category == null && !oldNode.getChildren().isEmpty()) return Optional.empty();
+        // 하위 트리 이동은 하위 카테고리의 버전도 함께 올리므로 (경로 일괄 UPDATE) 하위 노드를 재사용할 수 없음
+        if (oldNode != null && event.getType() == CategoryChangedEvent.Type.MOVED && !oldNode.getChildren().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Long newParentId = category == null ? null : loadedParentId(category.getParentId());
+        // 자기 하위로 옮겨진 순환 데이터는 전체 재적재 시 트리에서 빠지므로 같은 결과가 되도록 재적재
+        if (oldNode != null && newParentId != null && isSelfOrDescendant(newParentId, id)) return Optional.empty();
+
+        // 1. 기존 부모(null이면 최상위 목록)의 자식 목록에서 빼고 새 부모의 자식 목록에 정렬 위치로 삽입
+        Map<Long, List<CategoryTreeResponse>> changedChildren = new HashMap<>();
+        if (oldNode != null) {
+            childrenToChange(changedChildren, treeParentId(id)).removeIf(node -> node.getId() == id);
+        }
+        MessageDigest digest = newDigest();
+        if (category != null) {
+            List<CategoryTreeResponse> children = oldNode == null ? List.of() : oldNode.getChildren();
+            insertSorted(childrenToChange(changedChildren, newParentId),
+                    CategoryTreeResponse.of(category, children, subtreeHash(digest, category, children)));
+        }
+
+        // 2. 깊은 부모부터 바뀐 자식 목록으로 노드와 해시를 다시 만들고 그 부모의 자식 목록에서 교체 (최상위까지)
+        for (Long parentId = deepest(changedChildren.keySet()); parentId != null; parentId = deepest(changedChildren.keySet())) {
+            CategoryTreeResponse parent = nodeMap.get(parentId);
+            List<CategoryTreeResponse> children = Collections.unmodifiableList(changedChildren.remove(parentId));
+            CategoryTreeResponse rebuilt = parent.withChildren(children, subtreeHash(digest,
+                    parent.getId(), parent.getName(), parent.getSlug(), parent.getOrder(), children));
+            List<CategoryTreeResponse> siblings = childrenToChange(changedChildren, treeParentId(parentId));
+            siblings.set(indexOf(siblings, parentId), rebuilt);
+        }
+        List<CategoryTreeResponse> patchedRoots = Collections.unmodifiableList(changedChildren.get(null));
+
+        // 3. 새 트리를 BFS로 다시 나열하여 인덱스 구성 (바뀐 카테고리 외에는 기존 응답 객체 재사용)
+        List<CategoryTreeResponse> bfsNodes = new ArrayList<>(nodeMap.size() + 1);
+        bfsNodes.addAll(patchedRoots);
+        int patchedDepth = 0;
+        for (int i = 0, levelEnd = 0; i < bfsNodes.size(); i++) {
+            if (i == levelEnd) {
+                patchedDepth++;
+                levelEnd = bfsNodes.size();
+            }
+            bfsNodes.addAll(bfsNodes.get(i).getChildren());
+        }
+        Map<Long, CategoryTreeResponse> patchedNodeMap = new HashMap<>(bfsNodes.size() * 2);
+        List<CategoryResponse> bfsResponses = new ArrayList<>(bfsNodes.size());
+        for (CategoryTreeResponse node : bfsNodes) {
+            patchedNodeMap.put(node.getId(), node);
+            bfsResponses.add(node.getId() == id
+                    ? CategoryResponse.from(category)
+                    : responses[Arrays.binarySearch(sortedIds, node.getId())]);
+        }
+        return Optional.of(index(version, patchedRoots, patchedDepth, patchedNodeMap, bfsNodes, bfsResponses));
+    }
+
+    /**
+     * BFS 순서로 나열된 노드와 응답(같은 위치끼리 대응)으로 조회 인덱스를 구성
+     * 1. slug 인덱스 (slug가 중복되면 DB 조회와 같이 ID가 가장 작은 카테고리 사용)
+     * 2. 부모 포인터 배열 (부모가 비활성이라 스냅샷에 없으면 PARENT_NOT_LOADED)
+     */
+    private static CategoryTreeSnapshot index(long version, List<CategoryTreeResponse> roots, int depth,
+                                              Map<Long, CategoryTreeResponse> nodeMap,
+                                              List<CategoryTreeResponse> bfsNodes, List<CategoryResponse> bfsResponses) {
+        Map<SlugKey, CategoryTreeResponse> nodesByParentAndSlug = new HashMap<>(bfsNodes.size() * 2);
+        Map<String, CategoryTreeResponse> nodesBySlug = new HashMap<>(bfsNodes.size() * 2);
+        for (int i = 0; i < bfsNodes.size(); i++) {
+            CategoryResponse response = bfsResponses.get(i);
+            nodesByParentAndSlug.merge(new SlugKey(response.getParentId(), response.getSlug()), bfsNodes.get(i),
+                    CategoryTreeSnapshot::lowerId);
+            nodesBySlug.merge(response.getSlug(), bfsNodes.get(i), CategoryTreeSnapshot::lowerId);
+        }
+
+        long[] sortedIds = bfsResponses.stream().mapToLong(CategoryResponse::getId).sorted().toArray();
+        int[] parentIndexes = new int[sortedIds.length];
+        CategoryResponse[] responses = new CategoryResponse[sortedIds.length];
+        for (CategoryResponse response : bfsResponses) {
+            int index = Arrays.binarySearch(sortedIds, response.getId());
+            Long parentId = response.getParentId();
+            int parentIndex = parentId != null ? Arrays.binarySearch(sortedIds, parentId) : NO_PARENT;
+            parentIndexes[index] = parentId != null && parentIndex < 0 ? PARENT_NOT_LOADED : parentIndex;
+            responses[index] = response;
+        }
+
+        return new CategoryTreeSnapshot(version, roots, depth, Collections.unmodifiableMap(nodeMap),
+                Collections.unmodifiableMap(nodesByParentAndSlug), Collections.unmodifiableMap(nodesBySlug),
+                sortedIds, parentIndexes, responses);
+    }
+
+    /**
+     * 트리에서의 부모 ID (최상위이거나 부모가 스냅샷에 없으면 null)
+     */
+    private Long treeParentId(long id) {
+        int parentIndex = parentIndexes[Arrays.binarySearch(sortedIds, id)];
+        return parentIndex >= 0 ? sortedIds[parentIndex] : null;
+    }
+
+    private Long loadedParentId(Long parentId) {
+        return parentId != null && nodeMap.containsKey(parentId) ? parentId : null;
+    }
+
+    private boolean isSelfOrDescendant(long candidateId, long ancestorId) {
+        for (int index = Arrays.binarySearch(sortedIds, candidateId); index >= 0; index = parentIndexes[index]) {
+            if (sortedIds[index] == ancestorId) return true;
+        }
+        return false;
+    }
+
+    private int levelOf(long id) {
+        int level = 0;
+        for (int index = Arrays.binarySearch(sortedIds, id); index >= 0; index = parentIndexes[index]) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * 자식 목록이 바뀌는 부모 중 가장 깊은 부모 (최상위 목록만 남으면 null)
+     */
+    private Long deepest(Set<Long> parentIds) {
+        Long deepest = null;
+        int deepestLevel = 0;
+        for (Long parentId : parentIds) {
+            if (parentId == null) continue;
+            int level = levelOf(parentId);
+            if (level > deepestLevel) {
+                deepest = parentId;
+                deepestLevel = level;
+            }
+        }
+        return deepest;
+    }
+
+    /**
+     * 부모(null이면 최상위 목록)의 자식 목록 복사본, 이미 바뀌는 중이면 그 목록
+     */
+    private List<CategoryTreeResponse> childrenToChange(Map<Long, List<CategoryTreeResponse>> changedChildren, Long parentId) {
+        return changedChildren.computeIfAbsent(parentId,
+                key -> new ArrayList<>(key == null ? roots : nodeMap.get(key).getChildren()));
+    }
+
+    /**
+     * sort_order 순서를 유지하도록 삽입 (sort_order가 같으면 ID 순)
+     */
+    private static void insertSorted(List<CategoryTreeResponse> siblings, CategoryTreeResponse node) {
+        int position = 0;
+        while (position < siblings.size() && SIBLING_ORDER.compare(siblings.get(position), node) <= 0) {
+            position++;
+        }
+        siblings.add(position, node);
+    }
+
+    private static int indexOf(List<CategoryTreeResponse> siblings, long id) {
+        for (int i = 0; i < siblings.size(); i++) {
+            if (siblings.get(i).getId() == id) return i;
+        }
+        throw new IllegalStateException("category " + id + " is not a child of its snapshot parent");
+    }
+
+    /**
+     * 자신의 필드와 자식들의 해시를 합친 해시 (Merkle tree)
+     * 하위 카테고리가 바뀌면 그 조상들의 해시만 바뀌고 다른 가지의 해시는 그대로 유지된다
+     * @param digest
+     * @param category
+     * @param children
+     * @return
+     */
+    private static String subtreeHash(MessageDigest digest, Category category, List<CategoryTreeResponse> children) {
+        return subtreeHash(digest, category.getId(), category.getName(), category.getSlug(), category.getSortOrder(), children);
+    }
+
+    private static String subtreeHash(MessageDigest digest, Long id, String name, String slug, Integer sortOrder,
+                                      List<CategoryTreeResponse> children) {
+        update(digest, String.valueOf(id));
+        update(digest, name);
+        update(digest, slug);
+        update(digest, String.valueOf(sortOrder));
+        for (CategoryTreeResponse child : children) {
+            update(digest, child.getSubtreeHash());
+        }
+        // 앞 16바이트면 충돌 가능성이 충분히 낮음 (digest()는 내부 상태를 초기화함)
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // 필드 경계 구분자
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CategoryTreeResponse lowerId(CategoryTreeResponse existing, CategoryTreeResponse candidate) {
+        return candidate.getId() < existing.getId() ? candidate : existing;
+    }
+
+    public Optional<CategoryTreeResponse> find(Long id) {
+        return Optional.ofNullable(nodeMap.get(id));
+    }
+
+    public Optional<CategoryTreeResponse> findBySlug(String slug) {
+        return Optional.ofNullable(nodesBySlug.get(slug));
+    }
+
+    /**
+     * 최상위 카테고리부터 slug를 차례로 따라가 마지막 카테고리 반환
+     * 중간에 비활성 카테고리가 있으면 스냅샷에 없으므로 찾을 수 없음
+     * @param slugs 예) [top, shirts, oxford]
+     * @return
+     */
+    public Optional<CategoryTreeResponse> findByPath(List<String> slugs) {
+        CategoryTreeResponse node = null;
+        for (String slug : slugs) {
+            node = nodesByParentAndSlug.get(new SlugKey(node == null ? null : node.getId(), slug));
+            if (node == null) return Optional.empty();
+        }
+        return Optional.ofNullable(node);
+    }
+
+    /**
+     * 부모 포인터를 따라 최상위부터 자기 자신까지의 경로 반환
+     * 스냅샷에 없거나 중간에 비활성 조상이 있으면 DB에서 조회해야 하므로 비어 있음
+     * @param id
+     * @return
+     */
+    public Optional<List<CategoryResponse>> findAncestors(long id) {
+        int index = Arrays.binarySearch(sortedIds, id);
+        if (index < 0) return Optional.empty();
+
+        List<CategoryResponse> ancestors = new ArrayList<>();
+        for (; index >= 0; index = parentIndexes[index]) {
+            ancestors.add(responses[index]);
+        }
+        if (index == PARENT_NOT_LOADED) return Optional.empty();
+
+        Collections.reverse(ancestors);
+        return Optional.of(ancestors);
+    }
+
+    public int size() {
+        return nodeMap.size();
+    }
+
+    private record SlugKey(Long parentId, String slug) {
+    }
+}
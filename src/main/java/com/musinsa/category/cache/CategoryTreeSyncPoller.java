@@ -0,0 +1,64 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.domain.entity.CategoryTreeChange;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryTreeChangeRepository;
+import com.musinsa.category.domain.repository.CategoryTreeVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 트리 버전을 주기적으로 확인하여 다른 인스턴스의 변경을 트리 캐시에 반영
+ * 메시지 브로커 없이 poll-interval 이내로 갱신되며, 변경 없는 확인은 PK 조회 1회
+ * 마지막으로 반영한 버전 이후의 변경 이력이 이어져 있으면 바뀐 카테고리만, 아니면 전체 재적재
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "category.tree-sync", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CategoryTreeSyncPoller {
+
+    private static final long UNKNOWN = -1L;
+
+    private final CategoryTreeVersionRepository categoryTreeVersionRepository;
+    private final CategoryTreeChangeRepository categoryTreeChangeRepository;
+    private final CategoryTreeVersionRecorder categoryTreeVersionRecorder;
+    private final CategoryTreeCache categoryTreeCache;
+
+    // 트리 캐시에 반영을 마친 마지막 버전 (스케줄러 스레드에서만 접근)
+    private long appliedVersion = UNKNOWN;
+
+    @Scheduled(fixedDelayString = "${category.tree-sync.poll-interval:1s}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        if (!categoryTreeCache.isEnabled()) return;
+        long currentVersion = categoryTreeVersionRepository.findCurrentVersion().orElse(0L);
+        if (currentVersion == appliedVersion) return;
+
+        // 처음 확인하면 그 전에 적재한 스냅샷이 어느 버전인지 알 수 없으므로 재적재 (적재 전이면 다음 조회 시 적재)
+        List<CategoryTreeChange> changes = appliedVersion == UNKNOWN
+                ? List.of()
+                : categoryTreeChangeRepository.findAllByVersionGreaterThanOrderByVersionAsc(appliedVersion);
+        if (changes.isEmpty() || changes.get(0).getVersion() != appliedVersion + 1) {
+            log.debug("category tree version {} -> {}, reloading", appliedVersion, currentVersion);
+            categoryTreeCache.apply(CategoryChangedEvent.bulk());
+            appliedVersion = currentVersion;
+            return;
+        }
+
+        for (CategoryTreeChange change : changes) {
+            if (!change.getOrigin().equals(categoryTreeVersionRecorder.getInstanceId())) {
+                categoryTreeCache.apply(change.toEvent());
+            }
+        }
+        // 두 조회 사이에 커밋된 변경까지 반영했을 수 있으므로 마지막 이력의 버전 사용
+        appliedVersion = changes.get(changes.size() - 1).getVersion();
+        log.debug("category tree synced to version {} ({} changes)", appliedVersion, changes.size());
+    }
+}
@@ -0,0 +1,56 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryTreeChangeRepository;
+import com.musinsa.category.domain.repository.CategoryTreeVersionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * 카테고리 변경을 쓰기 트랜잭션 안에서 트리 버전과 변경 이력으로 기록
+ * 커밋 직전에 같은 트랜잭션으로 기록하므로 쓰기가 롤백되면 버전도 함께 롤백된다
+ */
+@Component
+@ConditionalOnProperty(prefix = "category.tree-sync", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CategoryTreeVersionRecorder {
+
+    // 이 간격의 버전마다 change-retention보다 오래된 변경 이력 정리
+    private static final int PRUNE_INTERVAL = 100;
+
+    private final CategoryTreeVersionRepository categoryTreeVersionRepository;
+    private final CategoryTreeChangeRepository categoryTreeChangeRepository;
+    private final CategoryProperties categoryProperties;
+
+    // 자신이 기록한 변경은 커밋 직후 이미 반영했으므로 폴링 시 건너뛰기 위한 식별자
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    void initVersionRow() {
+        try {
+            categoryTreeVersionRepository.insertIfAbsent();
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 시작한 다른 인스턴스가 먼저 생성
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        long version = categoryTreeVersionRepository.increment();
+        categoryTreeChangeRepository.insert(version, event.getType().name(), event.getCategoryId(),
+                event.getOldParentId(), event.getNewParentId(), instanceId);
+        if (version % PRUNE_INTERVAL == 0) {
+            categoryTreeChangeRepository.deleteAllUpTo(version - categoryProperties.getTreeSync().getChangeRetention());
+        }
+    }
+}
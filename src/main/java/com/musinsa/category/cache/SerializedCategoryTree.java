@@ -0,0 +1,170 @@
+package com.musinsa.category.cache;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 카테고리 트리 JSON
+ * gzip 압축본과 내용 해시 기반 ETag는 처음 필요할 때 한 번만 만들어 보관하므로 같은 인스턴스를 재사용하는 동안 다시 계산하지 않는다
+ * 미리 압축한 조각({@link Fragment})을 이어 붙여 만들면 바뀐 조각만 다시 직렬화/압축하면 됨
+ */
+public class SerializedCategoryTree {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    // GZIPOutputStream과 같은 헤더 (deflate, 플래그/시간/OS 없음)
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    // 마지막 블록 표시가 된 빈 고정 허프만 블록 (조각은 마지막 블록 표시 없이 끝나므로 스트림을 닫는 데 사용)
+    private static final byte[] FINAL_EMPTY_BLOCK = {0x03, 0x00};
+
+    @Getter
+    private final long version;
+    @Getter
+    private final byte[] json;
+    // 조각으로 만든 경우에만 있음 (압축본을 조각의 deflate 블록으로 조립)
+    private final List<Fragment> fragments;
+
+    // 동시에 계산되어도 결과가 같으므로 락 없이 덮어씀
+    private volatile byte[] gzip;
+    private volatile String hash;
+
+    public SerializedCategoryTree(long version, byte[] json) {
+        this(version, json, null);
+    }
+
+    private SerializedCategoryTree(long version, byte[] json, List<Fragment> fragments) {
+        this.version = version;
+        this.json = json;
+        this.fragments = fragments;
+    }
+
+    /**
+     * 조각을 순서대로 이어 붙여 생성
+     * 압축본은 요청 시 조각의 deflate 블록을 그대로 이어 붙이고 gzip 헤더/트레일러(CRC32, 원본 길이)만 새로 계산
+     * @param version
+     * @param fragments
+     * @return
+     */
+    public static SerializedCategoryTree of(long version, List<Fragment> fragments) {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        for (Fragment fragment : fragments) {
+            json.writeBytes(fragment.json);
+        }
+        return new SerializedCategoryTree(version, json.toByteArray(), List.copyOf(fragments));
+    }
+
+    public byte[] getGzip() {
+        byte[] current = gzip;
+        if (current == null) {
+            current = fragments == null ? compress(json) : concatenate(fragments, json);
+            gzip = current;
+        }
+        return current;
+    }
+
+    public String getEtag() {
+        return "\"" + hash() + "\"";
+    }
+
+    // 인코딩이 다르면 바이트가 다르므로 strong ETag도 구분
+    public String getGzipEtag() {
+        return "\"" + hash() + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    private String hash() {
+        String current = hash;
+        if (current == null) {
+            current = sha256(json);
+            hash = current;
+        }
+        return current;
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static byte[] concatenate(List<Fragment> fragments, byte[] source) {
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        gzip.writeBytes(GZIP_HEADER);
+        for (Fragment fragment : fragments) {
+            gzip.writeBytes(fragment.deflated);
+        }
+        gzip.writeBytes(FINAL_EMPTY_BLOCK);
+
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        writeIntLittleEndian(gzip, (int) crc.getValue());
+        writeIntLittleEndian(gzip, source.length);
+        return gzip.toByteArray();
+    }
+
+    private static byte[] compress(byte[] source) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(source.length / 4, 64));
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static void writeIntLittleEndian(ByteArrayOutputStream output, int value) {
+        output.write(value);
+        output.write(value >>> 8);
+        output.write(value >>> 16);
+        output.write(value >>> 24);
+    }
+
+    private static String sha256(byte[] source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source);
+            // 앞 16바이트면 충돌 가능성이 충분히 낮음
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 다른 조각 뒤에 이어 붙일 수 있는 JSON 조각과 그 raw deflate 압축본
+     * 조각마다 새 Deflater로 압축하여 앞 조각을 참조하지 않고, FULL_FLUSH로 바이트 경계에서 끝내며 마지막 블록 표시를 하지 않음
+     */
+    public static final class Fragment {
+
+        private final byte[] json;
+        private final byte[] deflated;
+
+        private Fragment(byte[] json, byte[] deflated) {
+            this.json = json;
+            this.deflated = deflated;
+        }
+
+        public static Fragment of(byte[] json) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                deflater.setInput(json);
+                ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+                byte[] buffer = new byte[8192];
+                int length;
+                // 출력 버퍼를 가득 채웠으면 남은 출력이 있을 수 있으므로 같은 flush 모드로 다시 호출
+                do {
+                    length = deflater.deflate(buffer, 0, buffer.length, Deflater.FULL_FLUSH);
+                    output.write(buffer, 0, length);
+                } while (length == buffer.length);
+                return new Fragment(json, output.toByteArray());
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.musinsa.category.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "category")
+public class CategoryProperties {
+
+    private final TreeCache treeCache = new TreeCache();
+    private final ClosureTable closureTable = new ClosureTable();
+    @Valid
+    private final NdjsonImport ndjsonImport = new NdjsonImport();
+    @Valid
+    private final SyntheticData syntheticData = new SyntheticData();
+    private final QueryBudget queryBudget = new QueryBudget();
+    @Valid
+    private final TreeSync treeSync = new TreeSync();
+
+    // 하위 카테고리 조회 방식
+    private SubtreeFetch subtreeFetch = SubtreeFetch.RECURSIVE_CTE;
+
+    @AssertTrue(message = "subtree-fetch=closure 사용 시 closure-table.enabled=true 설정이 필요합니다")
+    public boolean isClosureTableReady() {
+        return subtreeFetch != SubtreeFetch.CLOSURE || closureTable.isEnabled();
+    }
+
+    @Getter
+    @Setter
+    public static class TreeCache {
+        // false면 매 요청마다 DB에서 트리를 조회
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class TreeSync {
+        // true면 쓰기 트랜잭션에서 트리 버전/변경 이력을 기록하고, 다른 인스턴스의 변경을 주기적으로 확인하여 트리 캐시에 반영
+        private boolean enabled = false;
+        // 버전 확인 주기 (다른 인스턴스의 변경이 늦게 보이는 최대 시간)
+        private Duration pollInterval = Duration.ofSeconds(1);
+        // 남겨 둘 변경 이력 수 (이보다 뒤처진 인스턴스는 전체 재적재)
+        @Min(1)
+        private int changeRetention = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ClosureTable {
+        // true면 쓰기 시 category_closure 테이블을 함께 갱신
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class NdjsonImport {
+        // 영속성 컨텍스트를 flush/clear 하는 행 단위
+        @Min(1)
+        private int batchSize = 1_000;
+        // 지정하면 애플리케이션 시작 시 해당 NDJSON 파일을 적재
+        private String file;
+    }
+
+    @Getter
+    @Setter
+    public static class SyntheticData {
+        // 지정하면 애플리케이션 시작 시 해당 개수만큼 합성 카테고리를 생성 (부하 테스트/벤치마크용)
+        @Min(0)
+        private int size;
+        @Min(1)
+        private int rootCount = 10;
+        // 카테고리마다 자식 수를 fanout-min ~ fanout-max 사이에서 fanout-distribution에 따라 선택
+        @Min(1)
+        private int fanoutMin = 2;
+        @Min(1)
+        private int fanoutMax = 10;
+        private FanoutDistribution fanoutDistribution = FanoutDistribution.UNIFORM;
+        // 최상위를 포함한 최대 단계 수 (채울 자리가 없으면 최상위 카테고리를 추가)
+        @Min(1)
+        private int maxDepth = 5;
+        // 앞서 생성된 카테고리의 slug를 재사용하는 비율
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double slugCollisionRate = 0.0;
+        private long seed = 1L;
+
+        @AssertTrue(message = "synthetic-data.fanout-max는 fanout-min 이상이어야 합니다")
+        public boolean isFanoutRangeValid() {
+            return fanoutMax >= fanoutMin;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class QueryBudget {
+        // @QueryBudget으로 지정한 SQL 문 수를 넘은 요청의 처리 방식
+        private OnExceed onExceed = OnExceed.LOG;
+    }
+
+    public enum OnExceed {
+        // 경고 로그만 남기고 정상 응답
+        LOG,
+        // 조회 요청은 응답 대신 500 (QUERY_BUDGET_EXCEEDED), 이미 커밋된 쓰기 요청은 경고 로그만
+        FAIL
+    }
+
+    public enum FanoutDistribution {
+        // fanout-min ~ fanout-max 균등 분포
+        UNIFORM,
+        // 대부분 fanout-min 근처, 일부 카테고리만 자식이 많은 분포
+        SKEWED
+    }
+
+    public enum SubtreeFetch {
+        // 깊이마다 parent_id IN (...) 조회
+        BFS,
+        // WITH RECURSIVE 1회 조회
+        RECURSIVE_CTE,
+        // materialized path 접두어 범위 조회
+        PATH,
+        // category_closure 조인 1회 조회
+        CLOSURE
+    }
+}
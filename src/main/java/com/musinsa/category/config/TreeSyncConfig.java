@@ -0,0 +1,14 @@
+package com.musinsa.category.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 여러 인스턴스의 트리 캐시 동기화 (트리 버전 폴링)는 category.tree-sync.enabled=true 일 때만 스케줄링
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "category.tree-sync", name = "enabled", havingValue = "true")
+public class TreeSyncConfig {
+}
@@ -1,10 +1,23 @@
 package com.musinsa.category.controller;
 
+import com.musinsa.category.cache.SerializedCategoryTree;
+import com.musinsa.category.dto.request.CategoryBulkRequest;
+import com.musinsa.category.dto.request.CategoryMoveRequest;
+import com.musinsa.category.dto.request.CategoryOrderRequest;
 import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.response.CategoryActivationResponse;
+import com.musinsa.category.dto.response.CategoryBreadcrumbResponse;
+import com.musinsa.category.dto.response.CategoryImportResponse;
 import com.musinsa.category.dto.response.CategoryResponse;
 import com.musinsa.category.dto.response.CategoryTreeResponse;
 import com.musinsa.category.dto.response.PagingResponse;
+import com.musinsa.category.exception.CategoryVersionMismatchException;
+import com.musinsa.category.metrics.QueryBudget;
+import com.musinsa.category.service.CategoryBulkService;
+import com.musinsa.category.service.CategoryExportService;
 import com.musinsa.category.service.CategoryFetchingService;
+import com.musinsa.category.service.CategoryImportService;
+import com.musinsa.category.service.CategoryTreeJsonService;
 import com.musinsa.category.service.CategoryUpdatingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,9 +28,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -27,6 +47,10 @@ public class CategoryController {
 
     private final CategoryUpdatingService categoryUpdatingService;
     private final CategoryFetchingService categoryFetchingService;
+    private final CategoryTreeJsonService categoryTreeJsonService;
+    private final CategoryBulkService categoryBulkService;
+    private final CategoryImportService categoryImportService;
+    private final CategoryExportService categoryExportService;
 
     @Operation(summary = "카테고리 생성", description = "새로운 카테고리를 생성합니다")
     @ApiResponses(value = {
@@ -36,63 +60,377 @@ public class CategoryController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청")
     })
     @PostMapping
+    // 부모 조회, INSERT + 경로 UPDATE, closure INSERT, 시퀀스 조회, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 반영
+    @QueryBudget(8)
     public ResponseEntity<CategoryResponse> createCategory(
             @Parameter(description = "카테고리 생성 정보", required = true)
             @Valid @RequestBody CategoryRequest request) {
-        return new ResponseEntity<>(categoryUpdatingService.createCategory(request), HttpStatus.CREATED);
+        CategoryResponse response = categoryUpdatingService.createCategory(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(response.getEtag())
+                .body(response);
+    }
+
+    @Operation(summary = "카테고리 일괄 생성/수정",
+            description = "여러 카테고리를 한번에 생성/수정합니다. id가 있으면 수정, 없으면 생성하며 같은 요청 안의 부모는 ref/parentRef로 참조합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "일괄 처리 성공 (요청 순서와 같은 순서로 반환)",
+                content = @Content(schema = @Schema(implementation = PagingResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "404", description = "참조한 카테고리를 찾을 수 없음")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<PagingResponse<CategoryResponse>> upsertCategories(
+            @Parameter(description = "카테고리 일괄 처리 정보", required = true)
+            @Valid @RequestBody CategoryBulkRequest request) {
+        return ResponseEntity.ok(categoryBulkService.upsertCategories(request));
     }
 
-    @Operation(summary = "카테고리 수정", description = "기존 카테고리 정보를 수정합니다")
+    @Operation(summary = "카테고리 NDJSON 적재",
+            description = "한 줄에 카테고리 하나씩 담긴 NDJSON 본문을 스트리밍으로 읽어 적재합니다. 부모는 자식보다 먼저 나와야 합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200",
-                description = "카테고리 수정 성공",
+                description = "적재 성공",
+                content = @Content(schema = @Schema(implementation = CategoryImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 행 (전체 롤백)")
+    })
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<CategoryImportResponse> importCategories(
+            InputStream body) {
+        return ResponseEntity.ok(categoryImportService.importCategories(body));
+    }
+
+    @Operation(summary = "카테고리 수정",
+            description = "기존 카테고리 정보를 수정합니다. If-Match에 응답의 ETag(버전)를 전달하면 그 사이 다른 요청이 먼저 수정한 경우 412를 반환합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "카테고리 수정 성공 (ETag: 수정 이후 버전)",
                 content = @Content(schema = @Schema(implementation = CategoryResponse.class))),
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음"),
+        @ApiResponse(responseCode = "412", description = "버전 불일치 (다른 요청이 먼저 변경)")
     })
     @PutMapping("/{id}")
+    // 대상/부모 조회, UPDATE, 하위 경로 UPDATE, closure 끊기/연결, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 반영
+    @QueryBudget(9)
     public ResponseEntity<CategoryResponse> updateCategory(
             @Parameter(description = "수정할 카테고리 ID", required = true)
             @PathVariable Long id,
             @Parameter(description = "카테고리 수정 정보", required = true)
-            @Valid @RequestBody CategoryRequest request) {
-        return ResponseEntity.ok(categoryUpdatingService.updateCategory(id, request));
+            @Valid @RequestBody CategoryRequest request,
+            @Parameter(description = "수정 전 조회한 ETag (예: \"3\")")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withVersionEtag(categoryUpdatingService.updateCategory(id, request, versionOf(ifMatch)));
+    }
+
+    @Operation(summary = "카테고리 이동",
+            description = "카테고리를 하위 카테고리와 함께 다른 부모 아래로 이동합니다. 하위 카테고리 수와 관계없이 몇 번의 집합 UPDATE로 처리합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "카테고리 이동 성공",
+                content = @Content(schema = @Schema(implementation = CategoryResponse.class))),
+        @ApiResponse(responseCode = "400", description = "자기 자신이나 하위 카테고리 아래로 이동"),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @PostMapping("/{id}/move")
+    // 대상/부모 조회, UPDATE, 하위 경로/최상위 ID UPDATE, closure 끊기/연결, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 반영
+    @QueryBudget(9)
+    public ResponseEntity<CategoryResponse> moveCategory(
+            @Parameter(description = "이동할 카테고리 ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "이동할 부모 정보", required = true)
+            @Valid @RequestBody CategoryMoveRequest request) {
+        return withVersionEtag(categoryUpdatingService.moveCategory(id, request));
     }
 
-    @Operation(summary = "카테고리 삭제", description = "카테고리를 삭제합니다")
+    @Operation(summary = "직계 하위 카테고리 정렬순서 일괄 변경",
+            description = "직계 하위 카테고리 ID 전체를 원하는 순서대로 전달하면 정렬순서를 1부터 다시 매깁니다. 한 트랜잭션에서 UPDATE 배치 1건으로 반영하고 트리 캐시는 한번만 재적재합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "정렬순서 변경 성공 (새 순서의 하위 카테고리 목록)",
+                content = @Content(schema = @Schema(implementation = PagingResponse.class))),
+        @ApiResponse(responseCode = "400", description = "목록이 현재 활성 하위 카테고리와 일치하지 않음 (누락, 중복, 다른 카테고리)"),
+        @ApiResponse(responseCode = "404", description = "상위 카테고리를 찾을 수 없음")
+    })
+    @PutMapping("/{parentId}/children/order")
+    // 부모 조회, 하위 카테고리 조회, UPDATE 배치, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 전체 재적재
+    @QueryBudget(6)
+    public ResponseEntity<PagingResponse<CategoryResponse>> reorderChildren(
+            @Parameter(description = "상위 카테고리 ID", required = true)
+            @PathVariable Long parentId,
+            @Parameter(description = "새 순서의 하위 카테고리 ID 전체", required = true)
+            @Valid @RequestBody CategoryOrderRequest request) {
+        return ResponseEntity.ok(categoryUpdatingService.reorderChildren(parentId, request.getIds()));
+    }
+
+    @Operation(summary = "카테고리 비활성",
+            description = "카테고리와 모든 하위 카테고리를 한번에 비활성합니다. 비활성 카테고리는 조회 API에서 제외됩니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "비활성 성공 (상태가 바뀐 카테고리 수 포함)",
+                content = @Content(schema = @Schema(implementation = CategoryActivationResponse.class))),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @PostMapping("/{id}/deactivate")
+    // 대상 조회, 하위 트리 UPDATE, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 전체 재적재
+    @QueryBudget(5)
+    public ResponseEntity<CategoryActivationResponse> deactivateCategory(
+            @Parameter(description = "비활성할 카테고리 ID", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(categoryUpdatingService.deactivateCategory(id));
+    }
+
+    @Operation(summary = "카테고리 활성",
+            description = "카테고리와 모든 하위 카테고리를 한번에 활성합니다. 상위 카테고리가 비활성이면 최상위로 노출되며 응답의 parentActive가 false입니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "활성 성공 (상태가 바뀐 카테고리 수 포함)",
+                content = @Content(schema = @Schema(implementation = CategoryActivationResponse.class))),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @PostMapping("/{id}/activate")
+    // 대상 조회, 상위 카테고리 활성 여부 조회, 하위 트리 UPDATE, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 전체 재적재
+    @QueryBudget(6)
+    public ResponseEntity<CategoryActivationResponse> activateCategory(
+            @Parameter(description = "활성할 카테고리 ID", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(categoryUpdatingService.activateCategory(id));
+    }
+
+    @Operation(summary = "카테고리 삭제",
+            description = "카테고리를 삭제합니다. If-Match에 ETag(버전)를 전달하면 그 사이 다른 요청이 먼저 변경한 경우 412를 반환합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200",
                 description = "카테고리 삭제 성공",
                 content = @Content(schema = @Schema(implementation = Boolean.class))),
-        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음"),
+        @ApiResponse(responseCode = "412", description = "버전 불일치 (다른 요청이 먼저 변경)")
     })
     @DeleteMapping("/{id}")
+    // 삭제 대상 조회, 하위 존재 확인, soft delete UPDATE, closure DELETE, 트리 버전/변경 이력 기록(tree-sync), 커밋 이후 스냅샷 반영
+    @QueryBudget(7)
     public ResponseEntity<Boolean> deleteCategory(
             @Parameter(description = "삭제할 카테고리 ID", required = true)
-            @PathVariable Long id) {
-        return ResponseEntity.ok(categoryUpdatingService.deleteCategory(id));
+            @PathVariable Long id,
+            @Parameter(description = "삭제 전 조회한 ETag (예: \"3\")")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(categoryUpdatingService.deleteCategory(id, versionOf(ifMatch)));
     }
 
-    @Operation(summary = "전체 카테고리 목록 조회", description = "계층 구조로 된 전체 카테고리 목록을 조회합니다")
-    @ApiResponse(responseCode = "200",
-            description = "카테고리 목록 조회 성공",
-            content = @Content(schema = @Schema(implementation = PagingResponse.class)))
+    @Operation(summary = "전체 카테고리 목록 조회",
+            description = "계층 구조로 된 전체 카테고리 목록을 조회합니다. 미리 직렬화된 JSON을 ETag와 함께 반환하며 If-None-Match가 일치하면 304를 반환합니다. depth를 지정하면 해당 단계까지만 포함하고 마지막 단계에 자식 수(childCount, hasChildren)를 표시합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "카테고리 목록 조회 성공",
+                content = @Content(schema = @Schema(implementation = PagingResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 depth")
+    })
     @GetMapping
-    public ResponseEntity<PagingResponse<CategoryTreeResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryFetchingService.getAllCategories());
+    // 트리 캐시 미사용 시 전체 조회 1회, depth 지정 시 재귀 CTE 1회 + 자식 수 1회 (depth와 무관)
+    @QueryBudget(2)
+    public ResponseEntity<byte[]> getAllCategories(
+            @Parameter(description = "최상위부터 포함할 하위 단계 수 (없으면 전체, 0이면 최상위만)")
+            @RequestParam(required = false) Integer depth,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SerializedCategoryTree tree = depth == null
+                ? categoryTreeJsonService.getAllCategories()
+                : categoryTreeJsonService.getAllCategories(depth);
+        // If-None-Match 비교와 304 응답은 ETag를 보고 스프링이 처리
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (SerializedCategoryTree.acceptsGzip(acceptEncoding)) {
+            return response.eTag(tree.getGzipEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(tree.getGzip());
+        }
+        return response.eTag(tree.getEtag()).body(tree.getJson());
     }
 
-    @Operation(summary = "특정 카테고리와 하위 카테고리 조회", description = "특정 카테고리와 그 하위 카테고리 목록을 트리 구조로 조회합니다")
+    @Operation(summary = "전체 카테고리 트리 내보내기",
+            description = "활성 카테고리 트리를 DB 커서에서 읽는 즉시 스트리밍합니다. 전체 카테고리 목록 조회와 같은 형태이며 카테고리 수와 관계없이 메모리 사용량이 일정합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTree() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(categoryExportService::exportTree);
+    }
+
+    @Operation(summary = "전체 카테고리 NDJSON 내보내기",
+            description = "활성 카테고리를 한 줄에 하나씩 부모가 먼저 오도록 스트리밍합니다. NDJSON 적재 API로 그대로 다시 적재할 수 있습니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    })
+    @GetMapping("/export/ndjson")
+    public ResponseEntity<StreamingResponseBody> exportNdjson() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(categoryExportService::exportNdjson);
+    }
+
+    @Operation(summary = "특정 카테고리와 하위 카테고리 조회",
+            description = "특정 카테고리와 그 하위 카테고리 목록을 트리 구조로 조회합니다. 하위 트리 해시를 ETag로 반환하며 If-None-Match가 일치하면 304를 반환합니다. depth를 지정하면 해당 단계까지만 조회하고 마지막 단계에 자식 수(childCount, hasChildren)를 표시합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200",
                 description = "카테고리 조회 성공",
                 content = @Content(schema = @Schema(implementation = CategoryTreeResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 depth"),
         @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
     })
     @GetMapping("/{id}")
+    // 하위 트리 1회 (path 방식은 자기 자신 조회 추가, depth 지정 시 재귀 CTE) + depth 지정 시 자식 수 1회
+    // bfs 방식은 단계마다 1회씩 허용치에 더함
+    @QueryBudget(2)
     public ResponseEntity<CategoryTreeResponse> getCategoryWithChildren(
+            @Parameter(description = "조회할 카테고리 ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "포함할 하위 단계 수 (없으면 전체, 0이면 자기 자신만)")
+            @RequestParam(required = false) Integer depth) {
+        return withSubtreeEtag(depth == null
+                ? categoryFetchingService.getCategoryWithChildren(id)
+                : categoryFetchingService.getCategoryWithChildren(id, depth));
+    }
+
+    @Operation(summary = "slug로 카테고리와 하위 카테고리 조회",
+            description = "slug로 카테고리와 그 하위 카테고리 목록을 트리 구조로 조회합니다. 트리 캐시 사용 시 메모리의 slug 인덱스에서 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "카테고리 조회 성공",
+                content = @Content(schema = @Schema(implementation = CategoryTreeResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/by-slug/{slug}")
+    // slug 조회 + 하위 트리 조회
+    @QueryBudget(3)
+    public ResponseEntity<CategoryTreeResponse> getCategoryBySlug(
+            @Parameter(description = "조회할 카테고리 slug", required = true)
+            @PathVariable String slug) {
+        return withSubtreeEtag(categoryFetchingService.getCategoryBySlug(slug));
+    }
+
+    @Operation(summary = "URL 경로로 카테고리와 하위 카테고리 조회",
+            description = "최상위부터의 slug 경로(예: /by-path/top/shirts/oxford)로 카테고리와 그 하위 카테고리 목록을 트리 구조로 조회합니다. 트리 캐시 사용 시 DB 조회 없이 메모리에서 한번에 찾습니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "카테고리 조회 성공",
+                content = @Content(schema = @Schema(implementation = CategoryTreeResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/by-path/{*path}")
+    // 트리 캐시 미사용 시 경로의 slug IN 조회 1회 (단계 수와 무관) + 하위 트리 조회
+    @QueryBudget(3)
+    public ResponseEntity<CategoryTreeResponse> getCategoryByPath(
+            @Parameter(description = "최상위부터의 slug 경로 (예: top/shirts/oxford)", required = true)
+            @PathVariable String path) {
+        List<String> slugs = Arrays.stream(path.split("/"))
+                .filter(slug -> !slug.isEmpty())
+                .toList();
+        return withSubtreeEtag(categoryFetchingService.getCategoryByPath(slugs));
+    }
+
+    @Operation(summary = "상위 카테고리 경로 조회", description = "최상위 카테고리부터 특정 카테고리까지의 경로(breadcrumb)를 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "경로 조회 성공",
+                content = @Content(schema = @Schema(implementation = PagingResponse.class))),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/{id}/ancestors")
+    // 자기 자신 조회 + 경로의 조상 일괄 조회
+    @QueryBudget(2)
+    public ResponseEntity<PagingResponse<CategoryResponse>> getAncestors(
             @Parameter(description = "조회할 카테고리 ID", required = true)
             @PathVariable Long id) {
-        return ResponseEntity.ok(categoryFetchingService.getCategoryWithChildren(id));
+        return ResponseEntity.ok(categoryFetchingService.getAncestors(id));
+    }
+
+    @Operation(summary = "여러 카테고리의 상위 카테고리 경로 일괄 조회",
+            description = "목록 화면용으로 여러 카테고리의 breadcrumb을 한번에 조회합니다. 존재하지 않는 카테고리는 결과에서 제외됩니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "경로 조회 성공 (요청 순서, 중복 제거)",
+                content = @Content(schema = @Schema(implementation = PagingResponse.class))),
+        @ApiResponse(responseCode = "400", description = "최대 개수 초과")
+    })
+    @GetMapping("/ancestors")
+    // 요청 카테고리 일괄 조회 + 경로의 조상 일괄 조회
+    @QueryBudget(2)
+    public ResponseEntity<PagingResponse<CategoryBreadcrumbResponse>> getBreadcrumbs(
+            @Parameter(description = "조회할 카테고리 ID 목록 (최대 500개, 예: ids=1,2,3)", required = true)
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(categoryFetchingService.getBreadcrumbs(ids));
+    }
+
+    @Operation(summary = "직계 하위 카테고리 목록 조회",
+            description = "직계 하위 카테고리를 정렬순서 기준 커서 방식으로 페이징하여 조회합니다. 응답의 paging.cursors 값을 after/before로 전달합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "하위 카테고리 목록 조회 성공",
+                content = @Content(schema = @Schema(implementation = PagingResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 페이징 요청"),
+        @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/{id}/children")
+    // 존재 확인 + keyset 페이지 조회
+    @QueryBudget(2)
+    public ResponseEntity<PagingResponse<CategoryResponse>> getChildren(
+            @Parameter(description = "상위 카테고리 ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "이 커서 이후 페이지 조회")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "이 커서 이전 페이지 조회")
+            @RequestParam(required = false) String before) {
+        return ResponseEntity.ok(categoryFetchingService.getChildren(id, size, after, before));
+    }
+
+    /**
+     * 쓰기 응답에 버전 ETag 지정 (다음 수정/삭제 요청의 If-Match로 사용)
+     */
+    private ResponseEntity<CategoryResponse> withVersionEtag(CategoryResponse response) {
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .body(response);
+    }
+
+    /**
+     * If-Match 값을 버전으로 변환, 없거나 *이면 확인하지 않음 (null)
+     * 쓰기 응답의 버전 ETag("3")와 조회 응답의 ETag("3-하위 트리 해시") 모두 앞의 버전으로 비교
+     * 그 외(weak ETag 등)는 어떤 버전과도 일치하지 않으므로 412
+     */
+    private Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            String value = etag.substring(1, etag.length() - 1);
+            int separator = value.indexOf('-');
+            try {
+                return Long.valueOf(separator < 0 ? value : value.substring(0, separator));
+            } catch (NumberFormatException ignored) {
+                // 아래에서 412
+            }
+        }
+        throw new CategoryVersionMismatchException(ifMatch);
+    }
+
+    /**
+     * 스냅샷에서 조회한 경우에만 하위 트리 해시가 있음, If-None-Match 비교와 304 응답은 스프링이 처리
+     * 버전을 앞에 붙이므로 같은 ETag를 수정/삭제의 If-Match로도 사용할 수 있음
+     */
+    private ResponseEntity<CategoryTreeResponse> withSubtreeEtag(CategoryTreeResponse response) {
+        if (response.getSubtreeHash() == null) return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .body(response);
     }
 }
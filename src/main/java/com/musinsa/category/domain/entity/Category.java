@@ -6,22 +6,32 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
+import org.hibernate.jdbc.Expectation;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 @Entity
 @Table(name = "categories")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLDelete(sql = "UPDATE categories SET deleted_at = NOW() WHERE id = ?")
+// @Version이 있으면 id, version 순으로 바인딩되며, 변경 행 수가 0이면 낙관적 잠금 실패
+@SQLDelete(sql = "UPDATE categories SET deleted_at = NOW() WHERE id = ? AND version = ?", verify = Expectation.RowCount.class)
 @Where(clause = "deleted_at IS NULL")
 public class Category {
 
+    public static final String PATH_DELIMITER = "/";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // pooled 시퀀스로 50개씩 미리 할당하여 INSERT를 JDBC 배치로 묶을 수 있도록 함 (IDENTITY는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_id_generator")
+    @SequenceGenerator(name = "category_id_generator", sequenceName = "categories_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "ancestor_id")
@@ -30,6 +40,12 @@ public class Category {
     @Column(name = "parent_id")
     private Long parentId;
 
+    // 최상위부터 자기 자신까지의 ID 경로 (예: /1/7/42/)
+    // 부모에서 파생되는 값이고 생성 직후(ID 할당 이후) 지정되므로 버전 증가 대상에서 제외 (생성 응답의 버전이 커밋 이후에도 유효)
+    @OptimisticLock(excluded = true)
+    @Column(name = "path", length = 1000)
+    private String path;
+
     @Column(name = "name", nullable = false, length = 100)
     private String name;
 
@@ -53,6 +69,11 @@ public class Category {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 낙관적 잠금 버전 (엔티티로 수정/삭제할 때 WHERE 조건에 포함, ETag로 노출)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
     public Category(Long ancestorId, Long parentId, String name, String slug, Integer sortOrder, Boolean isActive) {
         this.ancestorId = ancestorId;
@@ -66,11 +87,60 @@ public class Category {
     public void update(String name, String slug, Long parentId, Long ancestorId, Integer sortOrder) {
         this.name = name;
         this.slug = slug;
+        this.parentId = parentId;
+        this.ancestorId = ancestorId;
+        this.sortOrder = sortOrder == null ? 0 : sortOrder;
+    }
+
+    /**
+     * 부모와 정렬순서만 변경 (하위 트리 이동)
+     * @param parentId
+     * @param ancestorId
+     * @param sortOrder
+     */
+    public void move(Long parentId, Long ancestorId, Integer sortOrder) {
         this.parentId = parentId;
         this.ancestorId = ancestorId;
         this.sortOrder = sortOrder;
     }
 
+    public void changeSortOrder(Integer sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * 부모 경로 뒤에 자신의 ID를 붙여 경로 지정
+     * 부모 경로가 아직 없으면 경로를 알 수 없으므로 비워둔다
+     * @param parent
+     */
+    public void assignPath(Category parent) {
+        if (parent == null) {
+            this.path = PATH_DELIMITER + this.id + PATH_DELIMITER;
+            return;
+        }
+        this.path = parent.getPath() == null ? null : parent.getPath() + this.id + PATH_DELIMITER;
+    }
+
+    /**
+     * 경로에 포함된 ID 목록 (최상위 -> 자기 자신 순)
+     * @return
+     */
+    public List<Long> getPathIds() {
+        if (this.path == null) return List.of();
+        return Arrays.stream(this.path.split(PATH_DELIMITER))
+                .filter(token -> !token.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 최상위 카테고리 ID (최상위 카테고리면 자기 자신)
+     * @return
+     */
+    public Long getRootId() {
+        return this.ancestorId != null ? this.ancestorId : this.id;
+    }
+
     public void inactive(){
         this.isActive = false;
     }
@@ -0,0 +1,44 @@
+package com.musinsa.category.domain.entity;
+
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트리 버전별 변경 이력
+ * 다른 인스턴스가 마지막으로 반영한 버전 이후의 변경된 카테고리만 트리 캐시에 반영하는 데 사용
+ */
+@Entity
+@Table(name = "category_tree_change")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryTreeChange {
+
+    @Id
+    @Column(name = "version")
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private CategoryChangedEvent.Type type;
+
+    // BULK이면 null
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "old_parent_id")
+    private Long oldParentId;
+
+    @Column(name = "new_parent_id")
+    private Long newParentId;
+
+    // 변경을 기록한 인스턴스 (자신의 변경은 커밋 직후 이미 반영되어 있음)
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    public CategoryChangedEvent toEvent() {
+        return CategoryChangedEvent.of(type, categoryId, oldParentId, newParentId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.musinsa.category.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 트리 버전 (단일 행)
+ * 쓰기 트랜잭션마다 1씩 올리며, 행 잠금이 커밋까지 유지되므로 버전 순서가 커밋 순서와 같다
+ */
+@Entity
+@Table(name = "category_tree_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryTreeVersion {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
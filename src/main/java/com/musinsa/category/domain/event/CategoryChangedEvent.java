@@ -0,0 +1,58 @@
+package com.musinsa.category.domain.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리 생성/수정/이동/삭제 시 발행되는 이벤트
+ * 트랜잭션 커밋 이후 트리 스냅샷에서 바뀐 카테고리와 그 조상만 갱신하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, MOVED, DELETED,
+        // 여러 카테고리가 한번에 변경됨 (일괄 등록 등), 스냅샷 전체를 다시 적재
+        BULK
+    }
+
+    private final Type type;
+    // BULK이면 null
+    private final Long categoryId;
+    // 변경 전/후 부모 ID (최상위면 null, 이동이 아니면 같음)
+    private final Long oldParentId;
+    private final Long newParentId;
+
+    public static CategoryChangedEvent created(Long categoryId, Long parentId) {
+        return new CategoryChangedEvent(Type.CREATED, categoryId, null, parentId);
+    }
+
+    public static CategoryChangedEvent updated(Long categoryId, Long parentId) {
+        return new CategoryChangedEvent(Type.UPDATED, categoryId, parentId, parentId);
+    }
+
+    public static CategoryChangedEvent moved(Long categoryId, Long oldParentId, Long newParentId) {
+        return new CategoryChangedEvent(Type.MOVED, categoryId, oldParentId, newParentId);
+    }
+
+    public static CategoryChangedEvent deleted(Long categoryId, Long parentId) {
+        return new CategoryChangedEvent(Type.DELETED, categoryId, parentId, null);
+    }
+
+    /**
+     * 기록된 변경 이력에서 다시 생성 (다른 인스턴스의 변경 반영)
+     */
+    public static CategoryChangedEvent of(Type type, Long categoryId, Long oldParentId, Long newParentId) {
+        return new CategoryChangedEvent(type, categoryId, oldParentId, newParentId);
+    }
+
+    public static CategoryChangedEvent bulk() {
+        return new CategoryChangedEvent(Type.BULK, null, null, null);
+    }
+
+    public boolean isBulk() {
+        return type == Type.BULK;
+    }
+}
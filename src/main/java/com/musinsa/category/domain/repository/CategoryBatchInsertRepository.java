@@ -0,0 +1,34 @@
+package com.musinsa.category.domain.repository;
+
+import java.util.List;
+
+/**
+ * 엔티티를 거치지 않는 카테고리 JDBC 배치 저장 (합성 데이터 생성 등 대량 적재용)
+ */
+public interface CategoryBatchInsertRepository {
+
+    /**
+     * 삭제된 카테고리를 포함한 가장 큰 ID (없으면 0)
+     * @return
+     */
+    long findMaxId();
+
+    /**
+     * ID 시퀀스의 다음 값을 가져옴 (이미 할당된 구간은 모두 이 값보다 작음)
+     * @return
+     */
+    long nextIdSequenceValue();
+
+    /**
+     * ID가 지정된 행을 JDBC 배치로 저장
+     * @param rows
+     */
+    void insertRows(List<CategoryInsertRow> rows);
+
+    /**
+     * 직접 ID를 지정해 저장한 뒤 이후 JPA 저장과 ID가 겹치지 않도록 시퀀스 재시작
+     * H2에서는 DDL이 진행 중인 트랜잭션을 커밋하므로 트랜잭션의 마지막에 호출해야 한다
+     * @param nextId 이후 JPA 저장 시 처음 할당될 ID
+     */
+    void restartIdSequence(long nextId);
+}
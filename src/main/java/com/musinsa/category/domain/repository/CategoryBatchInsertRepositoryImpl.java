@@ -0,0 +1,56 @@
+package com.musinsa.category.domain.repository;
+
+import com.musinsa.category.domain.entity.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CategoryBatchInsertRepositoryImpl implements CategoryBatchInsertRepository {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_CATEGORY = """
+            INSERT INTO categories (id, ancestor_id, parent_id, path, name, slug, sort_order, is_active, version, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, 0, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM categories", Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    @Override
+    public long nextIdSequenceValue() {
+        Long value = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR categories_seq", Long.class);
+        return value == null ? 0L : value;
+    }
+
+    @Override
+    public void insertRows(List<CategoryInsertRow> rows) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY, rows, BATCH_SIZE, (statement, row) -> {
+            statement.setLong(1, row.getId());
+            statement.setObject(2, row.getAncestorId(), Types.BIGINT);
+            statement.setObject(3, row.getParentId(), Types.BIGINT);
+            statement.setString(4, row.getPath());
+            statement.setString(5, row.getName());
+            statement.setString(6, row.getSlug());
+            statement.setInt(7, row.getSortOrder());
+            statement.setTimestamp(8, now);
+            statement.setTimestamp(9, now);
+        });
+    }
+
+    @Override
+    public void restartIdSequence(long nextId) {
+        // pooled 최적화는 시퀀스 값을 할당 구간의 마지막 값으로 사용하므로 구간 크기만큼 뒤에서 시작
+        // DDL은 값 바인딩이 되지 않으므로 숫자를 직접 넣음
+        jdbcTemplate.execute("ALTER SEQUENCE categories_seq RESTART WITH " + (nextId + Category.ID_ALLOCATION_SIZE - 1));
+    }
+}
@@ -0,0 +1,24 @@
+package com.musinsa.category.domain.repository;
+
+import com.musinsa.category.domain.entity.Category;
+
+import java.util.List;
+
+/**
+ * closure table JDBC 배치 작업 (대량 등록용)
+ */
+public interface CategoryClosureBatchRepository {
+
+    /**
+     * 새로 등록된 카테고리들의 관계를 JDBC 배치로 추가
+     * 부모의 관계가 먼저 추가되어야 하므로 부모가 앞에 오도록 정렬된 목록을 전달해야 한다
+     * @param categories
+     */
+    void insertForNewCategories(List<Category> categories);
+
+    /**
+     * JDBC로 바로 저장한 행들의 관계를 JDBC 배치로 추가 (부모가 앞에 오도록 정렬된 목록)
+     * @param rows
+     */
+    void insertForNewRows(List<CategoryInsertRow> rows);
+}
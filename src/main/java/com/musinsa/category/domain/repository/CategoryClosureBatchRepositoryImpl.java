@@ -0,0 +1,43 @@
+package com.musinsa.category.domain.repository;
+
+import com.musinsa.category.domain.entity.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CategoryClosureBatchRepositoryImpl implements CategoryClosureBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_FOR_NEW_CATEGORY = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT cc.ancestor_id, CAST(? AS BIGINT), cc.depth + 1 FROM category_closure cc
+            WHERE cc.descendant_id = ?
+            UNION ALL
+            SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertForNewCategories(List<Category> categories) {
+        jdbcTemplate.batchUpdate(INSERT_FOR_NEW_CATEGORY, categories, BATCH_SIZE, (statement, category) -> {
+            statement.setLong(1, category.getId());
+            statement.setObject(2, category.getParentId(), Types.BIGINT);
+            statement.setLong(3, category.getId());
+            statement.setLong(4, category.getId());
+        });
+    }
+
+    @Override
+    public void insertForNewRows(List<CategoryInsertRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_FOR_NEW_CATEGORY, rows, BATCH_SIZE, (statement, row) -> {
+            statement.setLong(1, row.getId());
+            statement.setObject(2, row.getParentId(), Types.BIGINT);
+            statement.setLong(3, row.getId());
+            statement.setLong(4, row.getId());
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.musinsa.category.domain.repository;
+
+import com.musinsa.category.domain.entity.CategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryClosureRepository
+        extends JpaRepository<CategoryClosure, CategoryClosure.Key>, CategoryClosureBatchRepository {
+
+    /**
+     * 새 카테고리의 관계 추가: 자기 자신(depth 0) + 부모의 모든 조상(depth + 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT cc.ancestor_id, CAST(:id AS BIGINT), cc.depth + 1 FROM category_closure cc
+            WHERE cc.descendant_id = :parentId
+            UNION ALL
+            SELECT CAST(:id AS BIGINT), CAST(:id AS BIGINT), 0
+            """, nativeQuery = true)
+    int insertForNewCategory(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * 하위 트리(자기 자신 포함)와 기존 조상 사이의 관계 삭제 (하위 트리 내부 관계는 유지)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM category_closure
+            WHERE descendant_id IN (SELECT sub.descendant_id FROM category_closure sub WHERE sub.ancestor_id = :id)
+              AND ancestor_id NOT IN (SELECT sub.descendant_id FROM category_closure sub WHERE sub.ancestor_id = :id)
+            """, nativeQuery = true)
+    int detachSubtree(@Param("id") Long id);
+
+    /**
+     * 하위 트리(자기 자신 포함)를 새 부모의 모든 조상과 연결
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT anc.ancestor_id, sub.descendant_id, anc.depth + sub.depth + 1
+            FROM category_closure anc
+            CROSS JOIN category_closure sub
+            WHERE anc.descendant_id = :parentId AND sub.ancestor_id = :id
+            """, nativeQuery = true)
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CategoryClosure cc WHERE cc.descendantId = :id")
+    int deleteAllByDescendantId(@Param("id") Long id);
+
+    /**
+     * closure table이 categories와 어긋난 행 수 (0이면 일치)
+     * 자기 자신 관계/부모 관계(depth 1)가 없는 카테고리와 삭제되었거나 없는 카테고리를 가리키는 관계를 셈
+     * closure-table.enabled=false 상태에서 등록/이동/삭제한 이력이 있으면 0보다 큼
+     */
+    @Query(value = """
+            SELECT (SELECT COUNT(*) FROM categories c
+                    WHERE c.deleted_at IS NULL
+                      AND NOT EXISTS (SELECT 1 FROM category_closure cc
+                                      WHERE cc.ancestor_id = c.id AND cc.descendant_id = c.id AND cc.depth = 0))
+                 + (SELECT COUNT(*) FROM categories c
+                    WHERE c.deleted_at IS NULL AND c.parent_id IS NOT NULL
+                      AND NOT EXISTS (SELECT 1 FROM category_closure cc
+                                      WHERE cc.ancestor_id = c.parent_id AND cc.descendant_id = c.id AND cc.depth = 1))
+                 + (SELECT COUNT(*) FROM category_closure cc
+                    WHERE NOT EXISTS (SELECT 1 FROM categories c
+                                      WHERE c.id = cc.descendant_id AND c.deleted_at IS NULL))
+            """, nativeQuery = true)
+    long countStaleRows();
+
+    /**
+     * 모든 관계를 부모 관계로부터 다시 채움 (V4 마이그레이션과 같은 재귀 CTE, 기존 관계는 먼저 비워야 함)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            WITH RECURSIVE closure (ancestor_id, descendant_id, depth) AS (
+                SELECT id, id, 0
+                FROM categories
+                WHERE deleted_at IS NULL
+                UNION ALL
+                SELECT cl.ancestor_id, child.id, cl.depth + 1
+                FROM categories child
+                JOIN closure cl ON child.parent_id = cl.descendant_id
+                WHERE child.deleted_at IS NULL
+            )
+            SELECT ancestor_id, descendant_id, depth FROM closure
+            """, nativeQuery = true)
+    int insertAllFromCategories();
+}
@@ -0,0 +1,20 @@
+package com.musinsa.category.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JDBC 배치로 바로 저장할 카테고리 한 행 (엔티티/영속성 컨텍스트를 거치지 않는 대량 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryInsertRow {
+
+    private final Long id;
+    private final Long ancestorId;
+    private final Long parentId;
+    private final String path;
+    private final String name;
+    private final String slug;
+    private final Integer sortOrder;
+}
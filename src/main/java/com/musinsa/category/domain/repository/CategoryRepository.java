@@ -1,21 +1,225 @@
 package com.musinsa.category.domain.repository;
 
 import com.musinsa.category.domain.entity.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository
+        extends JpaRepository<Category, Long>, CategoryTreeStreamRepository, CategoryBatchInsertRepository {
     
     List<Category> findAllByParentIdInAndIsActiveTrueOrderBySortOrderAsc(List<Long> parentIds);
     List<Category> findAllByAncestorIdAndAndIsActiveTrueOrderBySortOrderAsc(Long ancestorId);
     List<Category> findAllByParentIdIsNullAndIsActiveTrueOrderBySortOrderAsc();
     Optional<Category> findBySlug(String slug);
+    List<Category> findAllBySlugIn(Collection<String> slugs);
+    Optional<Category> findFirstBySlugAndIsActiveTrueOrderByIdAsc(String slug);
+    // URL 경로의 slug를 한번에 조회 (단계별 부모 연결은 메모리에서 확인)
+    List<Category> findAllBySlugInAndIsActiveTrue(Collection<String> slugs);
+    List<Category> findAllByPathStartingWithAndIdNotAndIsActiveTrueOrderBySortOrderAsc(String path, Long id);
 
     List<Category> findAllByIsActiveTrueOrderBySortOrderAsc();
 
     boolean existsByParentId(Long parentId);
-}
\ No newline at end of file
+
+    /**
+     * 직계 하위 카테고리 keyset 페이징 (parent_id, sort_order, id 복합 인덱스 사용)
+     * OFFSET 없이 커서 이후/이전 행부터 읽으므로 뒤쪽 페이지도 첫 페이지와 비용이 같다
+     */
+    List<Category> findAllByParentIdAndIsActiveTrueOrderBySortOrderAscIdAsc(Long parentId, Pageable pageable);
+
+    // 직계 하위 카테고리 전체 (정렬순서 일괄 변경용)
+    List<Category> findAllByParentIdAndIsActiveTrueOrderBySortOrderAscIdAsc(Long parentId);
+
+    @Query("""
+            SELECT c FROM Category c
+            WHERE c.parentId = :parentId AND c.isActive = true
+              AND (c.sortOrder > :sortOrder OR (c.sortOrder = :sortOrder AND c.id > :id))
+            ORDER BY c.sortOrder ASC, c.id ASC
+            """)
+    List<Category> findChildrenAfter(@Param("parentId") Long parentId,
+                                     @Param("sortOrder") Integer sortOrder,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    // 이전 페이지는 역순으로 읽은 뒤 뒤집어서 사용
+    @Query("""
+            SELECT c FROM Category c
+            WHERE c.parentId = :parentId AND c.isActive = true
+              AND (c.sortOrder < :sortOrder OR (c.sortOrder = :sortOrder AND c.id < :id))
+            ORDER BY c.sortOrder DESC, c.id DESC
+            """)
+    List<Category> findChildrenBefore(@Param("parentId") Long parentId,
+                                      @Param("sortOrder") Integer sortOrder,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    /**
+     * 자기 자신과 모든 활성 하위 카테고리를 재귀 CTE로 한번에 조회
+     * UNION으로 중복을 제거하므로 순환 참조가 있어도 종료됨
+     */
+    @Query(value = """
+            WITH RECURSIVE subtree (id) AS (
+                SELECT c.id FROM categories c
+                WHERE c.id = :id AND c.deleted_at IS NULL
+                UNION
+                SELECT child.id FROM categories child
+                JOIN subtree s ON child.parent_id = s.id
+                WHERE child.is_active = TRUE AND child.deleted_at IS NULL
+            )
+            SELECT c.* FROM categories c
+            JOIN subtree s ON c.id = s.id
+            ORDER BY c.sort_order ASC, c.id ASC
+            """, nativeQuery = true)
+    List<Category> findSubtreeByRecursiveCte(@Param("id") Long id);
+
+    /**
+     * 재귀 CTE로 자기 자신과 maxDepth 이내의 활성 하위 카테고리만 조회 (더 깊은 단계는 탐색하지 않음)
+     * 깊이로 종료되므로 순환 참조가 있어도 종료되며, 중복은 IN으로 제거
+     */
+    @Query(value = """
+            WITH RECURSIVE subtree (id, depth) AS (
+                SELECT c.id, 0 FROM categories c
+                WHERE c.id = :id AND c.deleted_at IS NULL
+                UNION ALL
+                SELECT child.id, s.depth + 1 FROM categories child
+                JOIN subtree s ON child.parent_id = s.id
+                WHERE s.depth < :maxDepth AND child.is_active = TRUE AND child.deleted_at IS NULL
+            )
+            SELECT c.* FROM categories c
+            WHERE c.id IN (SELECT s.id FROM subtree s)
+            ORDER BY c.sort_order ASC, c.id ASC
+            """, nativeQuery = true)
+    List<Category> findSubtreeByRecursiveCte(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    /**
+     * 전체 트리의 최상위(부모가 없거나 부모가 비활성/삭제된 활성 카테고리)부터 maxDepth 단계까지의 활성 카테고리를 재귀 CTE로 한번에 조회
+     * 깊이로 종료되므로 순환 참조가 있어도 종료되며, 깊이와 무관하게 1회 조회
+     */
+    @Query(value = """
+            WITH RECURSIVE tree (id, depth) AS (
+                SELECT c.id, 0 FROM categories c
+                WHERE c.is_active = TRUE AND c.deleted_at IS NULL
+                  AND (c.parent_id IS NULL OR NOT EXISTS (
+                        SELECT 1 FROM categories p
+                        WHERE p.id = c.parent_id AND p.is_active = TRUE AND p.deleted_at IS NULL))
+                UNION ALL
+                SELECT child.id, t.depth + 1 FROM categories child
+                JOIN tree t ON child.parent_id = t.id
+                WHERE t.depth < :maxDepth AND child.is_active = TRUE AND child.deleted_at IS NULL
+            )
+            SELECT c.* FROM categories c
+            WHERE c.id IN (SELECT t.id FROM tree t)
+            ORDER BY c.sort_order ASC, c.id ASC
+            """, nativeQuery = true)
+    List<Category> findTreeByRecursiveCte(@Param("maxDepth") int maxDepth);
+
+    /**
+     * 부모별 활성 직계 하위 카테고리 수 (depth 제한으로 잘린 카테고리의 childCount)
+     */
+    @Query("""
+            SELECT c.parentId AS parentId, COUNT(c) AS childCount FROM Category c
+            WHERE c.parentId IN :parentIds AND c.isActive = true
+            GROUP BY c.parentId
+            """)
+    List<ChildCount> countActiveChildren(@Param("parentIds") Collection<Long> parentIds);
+
+    interface ChildCount {
+        Long getParentId();
+        long getChildCount();
+    }
+
+    /**
+     * closure table 조인으로 자기 자신과 maxDepth 이내의 활성 하위 카테고리를 한번에 조회
+     * 요청한 카테고리는 비활성이어도 포함 (findById와 동일)
+     */
+    @Query("""
+            SELECT c FROM Category c
+            JOIN CategoryClosure cc ON cc.descendantId = c.id
+            WHERE cc.ancestorId = :id AND cc.depth <= :maxDepth
+              AND (c.isActive = true OR c.id = :id)
+            ORDER BY c.sortOrder ASC, c.id ASC
+            """)
+    List<Category> findSubtreeByClosure(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    /**
+     * closure table 조인으로 최상위부터 자기 자신까지의 조상 목록을 한번에 조회
+     */
+    @Query("""
+            SELECT c FROM Category c
+            JOIN CategoryClosure cc ON cc.ancestorId = c.id
+            WHERE cc.descendantId = :id
+            ORDER BY cc.depth DESC
+            """)
+    List<Category> findAncestorsByClosure(@Param("id") Long id);
+
+    /**
+     * parentId부터 parent_id를 따라 최상위까지 올라가는 조상 체인에 id가 있는 행 수 (0 또는 1)
+     * 재귀 CTE 1회로 조회하며, UNION으로 중복을 제거하므로 이미 순환 참조가 있어도 종료됨
+     */
+    @Query(value = """
+            WITH RECURSIVE chain (id, parent_id) AS (
+                SELECT c.id, c.parent_id FROM categories c
+                WHERE c.id = :parentId
+                UNION
+                SELECT p.id, p.parent_id FROM categories p
+                JOIN chain ch ON p.id = ch.parent_id
+            )
+            SELECT COUNT(*) FROM chain WHERE id = :id
+            """, nativeQuery = true)
+    long countInAncestorChain(@Param("parentId") Long parentId, @Param("id") Long id);
+
+    /**
+     * id가 parentId 자신이거나 그 조상인지 (parentId를 id의 부모로 지정하면 순환이 생기는지)
+     */
+    default boolean existsInAncestorChain(Long parentId, Long id) {
+        return countInAncestorChain(parentId, id) > 0;
+    }
+
+    /**
+     * 하위 트리 이동: 경로가 oldPath로 시작하는 모든 카테고리의 경로 접두어를 newPath로, 최상위 카테고리 ID를 rootId로 변경
+     * 하위 카테고리 수와 관계없이 UPDATE 1회 (이동한 카테고리 자신은 먼저 flush되어 경로가 이미 newPath이므로 제외됨)
+     * 삭제된 카테고리는 조회되지 않으므로 삭제 당시 경로 그대로 두고 갱신하지 않음
+     * 엔티티를 거치지 않으므로 @Version 대신 직접 버전을 올려, 이동 전에 읽은 하위 카테고리의 수정이 이전 경로로 덮어쓰지 못하게 함
+     * 같은 이유로 @UpdateTimestamp 대신 수정 시각도 직접 갱신
+     * 영속성 컨텍스트에 남은 이전 경로를 읽지 않도록 실행 후 비움
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE categories
+            SET path = CONCAT(:newPath, SUBSTRING(path, :oldPathLength + 1)),
+                ancestor_id = :rootId,
+                updated_at = CURRENT_TIMESTAMP,
+                version = version + 1
+            WHERE path LIKE CONCAT(:oldPath, '%') AND deleted_at IS NULL
+            """, nativeQuery = true)
+    int moveSubtree(@Param("oldPath") String oldPath,
+                    @Param("oldPathLength") int oldPathLength,
+                    @Param("newPath") String newPath,
+                    @Param("rootId") Long rootId);
+
+    default int moveSubtree(String oldPath, String newPath, Long rootId) {
+        return moveSubtree(oldPath, oldPath.length(), newPath, rootId);
+    }
+
+    /**
+     * 경로가 path로 시작하는 카테고리(자기 자신과 모든 하위 카테고리)의 활성 여부를 UPDATE 1회로 변경
+     * 이미 같은 상태인 카테고리는 제외하므로 반환값은 실제로 바뀐 카테고리 수
+     * 엔티티를 거치지 않으므로 @Version 대신 바뀐 카테고리의 버전을 직접 올림
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE categories
+            SET is_active = :active, updated_at = CURRENT_TIMESTAMP, version = version + 1
+            WHERE path LIKE CONCAT(:path, '%') AND deleted_at IS NULL AND is_active <> :active
+            """, nativeQuery = true)
+    int updateSubtreeActive(@Param("path") String path, @Param("active") boolean active);
+}
@@ -0,0 +1,35 @@
+package com.musinsa.category.domain.repository;
+
+import com.musinsa.category.domain.entity.CategoryTreeChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryTreeChangeRepository extends JpaRepository<CategoryTreeChange, Long> {
+
+    List<CategoryTreeChange> findAllByVersionGreaterThanOrderByVersionAsc(Long version);
+
+    /**
+     * 버전을 직접 지정하므로 save(merge)의 사전 조회 없이 INSERT
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_tree_change (version, change_type, category_id, old_parent_id, new_parent_id, origin)
+            VALUES (:version, :type, :categoryId, :oldParentId, :newParentId, :origin)
+            """, nativeQuery = true)
+    int insert(@Param("version") Long version,
+               @Param("type") String type,
+               @Param("categoryId") Long categoryId,
+               @Param("oldParentId") Long oldParentId,
+               @Param("newParentId") Long newParentId,
+               @Param("origin") String origin);
+
+    @Modifying
+    @Query("DELETE FROM CategoryTreeChange c WHERE c.version <= :version")
+    int deleteAllUpTo(@Param("version") Long version);
+}
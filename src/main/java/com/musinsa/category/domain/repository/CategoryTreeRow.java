@@ -0,0 +1,20 @@
+package com.musinsa.category.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 트리 순서 조회 결과 한 행 (엔티티로 만들지 않고 바로 기록하기 위한 값)
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryTreeRow {
+
+    private final Long id;
+    private final Long parentId;
+    private final String name;
+    private final String slug;
+    private final Integer sortOrder;
+    // 최상위 카테고리는 0
+    private final int depth;
+}
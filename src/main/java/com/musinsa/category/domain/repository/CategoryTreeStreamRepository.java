@@ -0,0 +1,18 @@
+package com.musinsa.category.domain.repository;
+
+import java.util.function.Consumer;
+
+/**
+ * 전체 트리를 메모리에 올리지 않고 한 행씩 읽기 위한 JDBC 조회
+ */
+public interface CategoryTreeStreamRepository {
+
+    /**
+     * 활성 카테고리를 트리 순서(깊이 우선, 형제는 정렬순서 -> ID 순)로 한 행씩 전달
+     * 비활성 카테고리는 제외하고, 부모가 비활성/삭제된 활성 카테고리는 최상위(depth 0)로 전달 (findTreeByRecursiveCte와 동일)
+     * 재귀 CTE 1회를 정렬 키 순으로 읽는 forward-only 커서 하나로 전달 (카테고리 수와 관계없이 SQL 1회)
+     * @param fetchSize
+     * @param consumer
+     */
+    void streamActiveTree(int fetchSize, Consumer<CategoryTreeRow> consumer);
+}
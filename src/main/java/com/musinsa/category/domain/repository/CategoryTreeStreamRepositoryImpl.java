@@ -0,0 +1,56 @@
+package com.musinsa.category.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class CategoryTreeStreamRepositoryImpl implements CategoryTreeStreamRepository {
+
+    /**
+     * 최상위는 트리 조회(findTreeByRecursiveCte)와 같은 규칙: 부모가 없거나 부모가 비활성/삭제된 활성 카테고리
+     * 부모의 정렬 키 뒤에 (정렬순서, ID)를 고정 길이로 붙여 ORDER BY 한번으로 깊이 우선 순서를 만듦
+     * 최상위에서 내려가므로 순환 참조(부모가 모두 활성인 고리)에는 도달하지 않음
+     */
+    private static final String SELECT_ACTIVE_TREE = """
+            WITH RECURSIVE tree (id, parent_id, name, slug, sort_order, depth, sort_key) AS (
+                SELECT c.id, c.parent_id, c.name, c.slug, c.sort_order, 0,
+                       CAST(CONCAT(LPAD(CAST(c.sort_order AS VARCHAR), 10, '0'), LPAD(CAST(c.id AS VARCHAR), 19, '0')) AS VARCHAR)
+                FROM categories c
+                WHERE c.is_active = TRUE AND c.deleted_at IS NULL
+                  AND (c.parent_id IS NULL OR NOT EXISTS (
+                        SELECT 1 FROM categories p
+                        WHERE p.id = c.parent_id AND p.is_active = TRUE AND p.deleted_at IS NULL))
+                UNION ALL
+                SELECT child.id, child.parent_id, child.name, child.slug, child.sort_order, t.depth + 1,
+                       CONCAT(t.sort_key, LPAD(CAST(child.sort_order AS VARCHAR), 10, '0'), LPAD(CAST(child.id AS VARCHAR), 19, '0'))
+                FROM categories child
+                JOIN tree t ON child.parent_id = t.id
+                WHERE child.is_active = TRUE AND child.deleted_at IS NULL
+            )
+            SELECT id, parent_id, name, slug, sort_order, depth FROM tree
+            ORDER BY sort_key
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void streamActiveTree(int fetchSize, Consumer<CategoryTreeRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_ACTIVE_TREE, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new CategoryTreeRow(
+                resultSet.getLong("id"),
+                resultSet.getObject("parent_id", Long.class),
+                resultSet.getString("name"),
+                resultSet.getString("slug"),
+                resultSet.getInt("sort_order"),
+                resultSet.getInt("depth"))));
+    }
+}
@@ -0,0 +1,40 @@
+package com.musinsa.category.domain.repository;
+
+import com.musinsa.category.domain.entity.CategoryTreeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryTreeVersionRepository extends JpaRepository<CategoryTreeVersion, Long> {
+
+    /**
+     * 버전을 1 올리고 올린 값을 한번에 반환 (H2 data change delta table)
+     * 행 잠금이 커밋까지 유지되므로 동시에 쓰는 트랜잭션은 순서대로 다음 버전을 받는다
+     */
+    @Query(value = """
+            SELECT version FROM FINAL TABLE (
+                UPDATE category_tree_version SET version = version + 1 WHERE id = 1
+            )
+            """, nativeQuery = true)
+    Long increment();
+
+    @Query(value = "SELECT version FROM category_tree_version WHERE id = 1", nativeQuery = true)
+    Optional<Long> findCurrentVersion();
+
+    /**
+     * 버전 행이 없으면 0으로 생성 (이미 있으면 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            MERGE INTO category_tree_version t
+            USING (VALUES (1, 0)) s (id, version) ON t.id = s.id
+            WHEN NOT MATCHED THEN INSERT (id, version) VALUES (s.id, s.version)
+            """, nativeQuery = true)
+    int insertIfAbsent();
+}
@@ -0,0 +1,52 @@
+package com.musinsa.category.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryBulkRequest {
+
+    @Valid
+    @NotEmpty(message = "카테고리 목록은 필수입니다")
+    private List<Item> categories;
+
+    /**
+     * CategoryRequest 항목에 일괄 처리용 식별자(id, ref, parentRef)를 더한 형태
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        // 수정할 카테고리 ID (없으면 생성)
+        private Long id;
+
+        // 같은 요청 안에서 부모로 참조하기 위한 임시 키
+        private String ref;
+
+        // 같은 요청 안에 있는 부모의 임시 키 (parentId와 함께 사용 불가)
+        private String parentRef;
+
+        @NotBlank(message = "카테고리 이름은 필수입니다")
+        private String name;
+
+        @NotBlank(message = "카테고리 slug는 필수입니다")
+        private String slug;
+
+        private Long parentId;
+
+        // 0 이상만 가능
+        private Integer order;
+    }
+}
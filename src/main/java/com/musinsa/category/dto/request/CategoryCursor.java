@@ -0,0 +1,45 @@
+package com.musinsa.category.dto.request;
+
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.exception.InvalidPagingException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 하위 카테고리 목록 keyset 커서 (sort_order, id)
+ * 클라이언트에는 내부 구조를 알 수 없는 토큰으로 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final Integer sortOrder;
+    private final Long id;
+
+    public static CategoryCursor from(Category category) {
+        return new CategoryCursor(category.getSortOrder(), category.getId());
+    }
+
+    public static CategoryCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER);
+            if (tokens.length != 2) throw new InvalidPagingException("잘못된 커서입니다.");
+            return new CategoryCursor(Integer.valueOf(tokens[0]), Long.valueOf(tokens[1]));
+        } catch (IllegalArgumentException e) {
+            // Base64 형식 오류와 숫자 형식 오류(NumberFormatException) 모두 포함
+            throw new InvalidPagingException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortOrder + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.musinsa.category.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * NDJSON 적재 파일의 한 행
+ * 부모는 자식보다 먼저 나와야 한다
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryImportLine {
+
+    // 파일 안에서의 ID (자식이 parentId로 참조할 때만 필요)
+    private Long id;
+
+    // 앞서 나온 행의 id (parentSlug와 함께 사용 불가)
+    private Long parentId;
+
+    // 이미 존재하거나 앞서 나온 카테고리의 slug
+    private String parentSlug;
+
+    private String name;
+
+    private String slug;
+
+    private Integer order;
+}
@@ -0,0 +1,21 @@
+package com.musinsa.category.dto.request;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryMoveRequest {
+
+    // null이면 최상위로 이동
+    private Long parentId;
+
+    // 없으면 기존 정렬순서 유지
+    @PositiveOrZero(message = "정렬순서는 0 이상이어야 합니다")
+    private Integer order;
+}
@@ -0,0 +1,20 @@
+package com.musinsa.category.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryOrderRequest {
+
+    // 정렬할 순서대로 나열한 직계 하위 카테고리 ID 전체 (앞에서부터 정렬순서 1, 2, 3...)
+    @NotNull(message = "카테고리 ID 목록은 필수입니다")
+    private List<Long> ids;
+}
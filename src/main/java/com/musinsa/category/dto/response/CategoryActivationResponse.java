@@ -0,0 +1,35 @@
+package com.musinsa.category.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryActivationResponse {
+
+    private Long id;
+    private boolean active;
+    // 상태가 바뀐 카테고리 수 (자기 자신 포함, 이미 같은 상태였던 카테고리는 제외)
+    private int affectedCount;
+    // 활성 시에만 채워짐, 상위 카테고리가 비활성/삭제 상태면 false (활성한 하위 트리가 조회 API에서 최상위로 노출됨)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean parentActive;
+
+    public static CategoryActivationResponse of(Long id, boolean active, int affectedCount) {
+        return of(id, active, affectedCount, null);
+    }
+
+    public static CategoryActivationResponse of(Long id, boolean active, int affectedCount, Boolean parentActive) {
+        return CategoryActivationResponse.builder()
+                .id(id)
+                .active(active)
+                .affectedCount(affectedCount)
+                .parentActive(parentActive)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.musinsa.category.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryBreadcrumbResponse {
+
+    private Long id;
+    // 최상위부터 자기 자신까지
+    private List<CategoryResponse> ancestors;
+
+    public static CategoryBreadcrumbResponse of(Long id, List<CategoryResponse> ancestors) {
+        return new CategoryBreadcrumbResponse(id, ancestors);
+    }
+}
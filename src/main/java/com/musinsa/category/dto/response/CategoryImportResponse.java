@@ -0,0 +1,26 @@
+package com.musinsa.category.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryImportResponse {
+
+    private long importedCount;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+
+    public static CategoryImportResponse of(long importedCount, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        return CategoryImportResponse.builder()
+                .importedCount(importedCount)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(elapsedNanos == 0 ? importedCount : importedCount * 1_000_000_000L / elapsedNanos)
+                .build();
+    }
+}
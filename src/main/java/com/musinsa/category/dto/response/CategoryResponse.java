@@ -1,5 +1,6 @@
 package com.musinsa.category.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.musinsa.category.domain.entity.Category;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,8 @@ public class CategoryResponse {
     private String name;
     private String slug;
     private Integer order;
+    // 낙관적 잠금 버전 (쓰기 응답의 ETag와 같으며 수정/삭제 시 If-Match로 전달)
+    private Long version;
     
     public static CategoryResponse from(Category category) {
         return CategoryResponse.builder()
@@ -25,6 +28,16 @@ public class CategoryResponse {
                 .name(category.getName())
                 .slug(category.getSlug())
                 .order(category.getSortOrder())
+                .version(category.getVersion())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 버전 ETag (예: "3")
+     * @return
+     */
+    @JsonIgnore
+    public String getEtag() {
+        return "\"" + version + "\"";
+    }
+}
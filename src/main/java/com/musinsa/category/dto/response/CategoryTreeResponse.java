@@ -1,5 +1,7 @@
 package com.musinsa.category.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.musinsa.category.domain.entity.Category;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +23,20 @@ public class CategoryTreeResponse {
     private Integer order;
     @Builder.Default
     private List<CategoryTreeResponse> children = new ArrayList<>();
+    // 자신과 하위 트리 전체의 해시 (트리 스냅샷에서만 채워지며 ETag로 사용)
+    @JsonIgnore
+    private String subtreeHash;
+    // 카테고리 자신의 낙관적 잠금 버전 (ETag 앞부분, 수정/삭제 시 If-Match로 확인)
+    @JsonIgnore
+    private Long version;
+    // depth 제한 복사본의 남은 단계 수 (잘린 응답은 전체 응답과 본문이 다르므로 ETag를 구분)
+    @JsonIgnore
+    private Integer truncatedDepth;
+    // depth 제한으로 하위 카테고리가 잘린 경우에만 채워짐
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer childCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasChildren;
     
     public static CategoryTreeResponse from(Category category) {
         return CategoryTreeResponse.builder()
@@ -28,10 +44,85 @@ public class CategoryTreeResponse {
                 .name(category.getName())
                 .slug(category.getSlug())
                 .order(category.getSortOrder())
+                .version(category.getVersion())
+                .build();
+    }
+
+    public static CategoryTreeResponse of(Category category, List<CategoryTreeResponse> children, String subtreeHash) {
+        return CategoryTreeResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .slug(category.getSlug())
+                .order(category.getSortOrder())
+                .children(children)
+                .subtreeHash(subtreeHash)
+                .version(category.getVersion())
                 .build();
     }
     
+    /**
+     * 자식 목록과 해시만 바꾼 복사본 (트리 스냅샷 부분 갱신 시 조상 노드를 다시 만들 때 사용)
+     * @param children
+     * @param subtreeHash
+     * @return
+     */
+    public CategoryTreeResponse withChildren(List<CategoryTreeResponse> children, String subtreeHash) {
+        return CategoryTreeResponse.builder()
+                .id(id)
+                .name(name)
+                .slug(slug)
+                .order(order)
+                .children(children)
+                .subtreeHash(subtreeHash)
+                .version(version)
+                .build();
+    }
+
+    /**
+     * 버전과 하위 트리 해시를 합친 ETag (예: "3-9f86d081884c7d65", depth 제한 복사본은 "3-9f86d081884c7d65-d1")
+     * 하위 카테고리가 바뀌면 해시가 바뀌므로 조회의 If-None-Match에, 앞의 버전은 수정/삭제의 If-Match에 사용
+     * @return
+     */
+    @JsonIgnore
+    public String getEtag() {
+        String depthSuffix = truncatedDepth == null ? "" : "-d" + truncatedDepth;
+        return "\"" + version + "-" + subtreeHash + depthSuffix + "\"";
+    }
+
     public void addChild(CategoryTreeResponse child) {
         this.children.add(child);
     }
+
+    /**
+     * 하위 카테고리를 depth 단계까지만 남긴 복사본 (원본은 변경하지 않으므로 스냅샷 노드에도 사용 가능)
+     * depth 단계의 카테고리는 자식 대신 자식 수만 가짐
+     * @param depth 0이면 자기 자신만
+     * @return
+     */
+    public CategoryTreeResponse truncate(int depth) {
+        CategoryTreeResponseBuilder builder = CategoryTreeResponse.builder()
+                .id(id)
+                .name(name)
+                .slug(slug)
+                .order(order)
+                .subtreeHash(subtreeHash)
+                .version(version)
+                .truncatedDepth(Math.max(depth, 0));
+        if (depth <= 0) {
+            return builder.childCount(children.size())
+                    .hasChildren(!children.isEmpty())
+                    .build();
+        }
+        return builder.children(children.stream().map(child -> child.truncate(depth - 1)).toList())
+                .build();
+    }
+
+    /**
+     * DB에서 depth 단계까지만 조회한 경우 마지막 단계 카테고리에 자식 수 표시
+     * @param childCount
+     */
+    public void markTruncated(int childCount) {
+        this.childCount = childCount;
+        this.hasChildren = childCount > 0;
+    }
 }
\ No newline at end of file
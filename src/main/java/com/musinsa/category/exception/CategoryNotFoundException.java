@@ -11,4 +11,8 @@ public class CategoryNotFoundException extends NotFoundException {
     public CategoryNotFoundException(Long id){
         super(CODE, String.format("%s (id: %d)", MESSAGE, id));
     }
+
+    public CategoryNotFoundException(String field, String value) {
+        super(CODE, String.format("%s (%s: %s)", MESSAGE, field, value));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.musinsa.category.exception;
+
+public class CategoryPathMissingException extends BadRequestException {
+    private static final String CODE = "CATEGORY_PATH_MISSING";
+    private static final String MESSAGE = "경로가 채워지지 않은 카테고리는 하위 트리를 한번에 변경할 수 없습니다.";
+
+    public CategoryPathMissingException() {
+        super(CODE, MESSAGE);
+    }
+
+    public CategoryPathMissingException(Long id) {
+        super(CODE, String.format("%s (id: %d)", MESSAGE, id));
+    }
+}
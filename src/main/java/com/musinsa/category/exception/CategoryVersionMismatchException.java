@@ -0,0 +1,18 @@
+package com.musinsa.category.exception;
+
+public class CategoryVersionMismatchException extends PreconditionFailedException {
+    public static final String CODE = "CATEGORY_VERSION_MISMATCH";
+    public static final String MESSAGE = "다른 요청이 먼저 변경한 카테고리입니다. 다시 조회한 후 요청해 주세요.";
+
+    public CategoryVersionMismatchException() {
+        super(CODE, MESSAGE);
+    }
+
+    public CategoryVersionMismatchException(Long id, Long expectedVersion, Long currentVersion) {
+        super(CODE, String.format("%s (id: %d, If-Match: %d, 현재: %d)", MESSAGE, id, expectedVersion, currentVersion));
+    }
+
+    public CategoryVersionMismatchException(String ifMatch) {
+        super(CODE, String.format("%s (If-Match: %s)", MESSAGE, ifMatch));
+    }
+}
@@ -1,6 +1,7 @@
 package com.musinsa.category.exception;
 
 import com.musinsa.category.dto.response.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,4 +21,25 @@ public class GlobalExceptionHandler {
         ErrorResponse errorResponse = ErrorResponse.of(e.getErrorCode(), e.getErrorMessage());
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException e) {
+        ErrorResponse errorResponse = ErrorResponse.of(e.getErrorCode(), e.getErrorMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * If-Match 확인 이후 커밋 전에 다른 트랜잭션이 먼저 수정한 경우 (@Version 조건 UPDATE/DELETE의 변경 행 수 0)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        ErrorResponse errorResponse = ErrorResponse.of(CategoryVersionMismatchException.CODE, CategoryVersionMismatchException.MESSAGE);
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    public ResponseEntity<ErrorResponse> handleQueryBudgetExceededException(QueryBudgetExceededException e) {
+        ErrorResponse errorResponse = ErrorResponse.of(e.getErrorCode(), e.getErrorMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.musinsa.category.exception;
+
+public class InvalidBulkRequestException extends BadRequestException {
+    private static final String CODE = "INVALID_BULK_REQUEST";
+    private static final String MESSAGE = "잘못된 일괄 처리 요청입니다.";
+
+    public InvalidBulkRequestException() {
+        super(CODE, MESSAGE);
+    }
+
+    public InvalidBulkRequestException(String message) {
+        super(CODE, message);
+    }
+}
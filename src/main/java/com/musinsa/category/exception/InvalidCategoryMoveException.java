@@ -0,0 +1,14 @@
+package com.musinsa.category.exception;
+
+public class InvalidCategoryMoveException extends BadRequestException {
+    private static final String CODE = "INVALID_CATEGORY_MOVE";
+    private static final String MESSAGE = "자기 자신이나 하위 카테고리 아래로 이동할 수 없습니다.";
+
+    public InvalidCategoryMoveException() {
+        super(CODE, MESSAGE);
+    }
+
+    public InvalidCategoryMoveException(Long id, Long parentId) {
+        super(CODE, String.format("%s (id: %d, parentId: %d)", MESSAGE, id, parentId));
+    }
+}
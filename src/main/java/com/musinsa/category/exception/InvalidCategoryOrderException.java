@@ -0,0 +1,14 @@
+package com.musinsa.category.exception;
+
+public class InvalidCategoryOrderException extends BadRequestException {
+    private static final String CODE = "INVALID_CATEGORY_ORDER";
+    private static final String MESSAGE = "정렬할 카테고리 목록이 현재 하위 카테고리와 일치하지 않습니다.";
+
+    public InvalidCategoryOrderException() {
+        super(CODE, MESSAGE);
+    }
+
+    public InvalidCategoryOrderException(String detail) {
+        super(CODE, String.format("%s (%s)", MESSAGE, detail));
+    }
+}
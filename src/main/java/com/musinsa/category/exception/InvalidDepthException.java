@@ -0,0 +1,10 @@
+package com.musinsa.category.exception;
+
+public class InvalidDepthException extends BadRequestException {
+    private static final String CODE = "INVALID_DEPTH";
+    private static final String MESSAGE = "depth는 0 이상이어야 합니다.";
+
+    public InvalidDepthException() {
+        super(CODE, MESSAGE);
+    }
+}
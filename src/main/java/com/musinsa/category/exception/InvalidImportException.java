@@ -0,0 +1,9 @@
+package com.musinsa.category.exception;
+
+public class InvalidImportException extends BadRequestException {
+    private static final String CODE = "INVALID_IMPORT";
+
+    public InvalidImportException(long lineNumber, String message) {
+        super(CODE, String.format("%s (행: %d)", message, lineNumber));
+    }
+}
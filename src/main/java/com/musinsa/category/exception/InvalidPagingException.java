@@ -0,0 +1,14 @@
+package com.musinsa.category.exception;
+
+public class InvalidPagingException extends BadRequestException {
+    private static final String CODE = "INVALID_PAGING";
+    private static final String MESSAGE = "잘못된 페이징 요청입니다.";
+
+    public InvalidPagingException() {
+        super(CODE, MESSAGE);
+    }
+
+    public InvalidPagingException(String message) {
+        super(CODE, message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.musinsa.category.exception;
+
+public class PreconditionFailedException extends ApiException {
+
+    public PreconditionFailedException() {
+        super();
+    }
+
+    public PreconditionFailedException(String code, String message) {
+        super(code, message);
+    }
+}
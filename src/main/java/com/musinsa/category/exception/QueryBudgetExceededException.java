@@ -0,0 +1,10 @@
+package com.musinsa.category.exception;
+
+public class QueryBudgetExceededException extends ApiException {
+    private static final String CODE = "QUERY_BUDGET_EXCEEDED";
+    private static final String MESSAGE = "요청의 SQL 실행 횟수가 허용치를 초과했습니다. (%s, 실행: %d, 허용: %d)";
+
+    public QueryBudgetExceededException(String uri, int statements, int budget) {
+        super(CODE, String.format(MESSAGE, uri, statements, budget));
+    }
+}
@@ -0,0 +1,26 @@
+package com.musinsa.category.metrics;
+
+/**
+ * 카테고리 API 메트릭 이름 (Prometheus에서는 '.'이 '_'로 바뀌고 단위 접미사가 붙음)
+ */
+public final class CategoryMetrics {
+
+    // 요청 1건에서 실행한 SQL 문 수 (uri, method, status 태그)
+    public static final String HTTP_SQL_STATEMENTS = "category.http.sql.statements";
+    // 요청 1건의 응답 본문 바이트 수 (uri, method, status 태그)
+    public static final String HTTP_RESPONSE_BYTES = "category.http.response.bytes";
+    // @QueryBudget을 넘은 요청 수 (uri 태그)
+    public static final String HTTP_QUERY_BUDGET_EXCEEDED = "category.http.query.budget.exceeded";
+    // 평면 목록을 응답 트리로 구성하는 시간 (scope: tree | subtree)
+    public static final String TREE_BUILD = "category.tree.build";
+    // 깊이마다 1회씩 조회하는 BFS 루프 전체 시간
+    public static final String SUBTREE_BFS = "category.subtree.bfs";
+    // 전체 트리 JSON 직렬화 시간
+    public static final String TREE_SERIALIZE = "category.tree.serialize";
+    // 트리 캐시 스냅샷의 카테고리 수 / 단계 수
+    public static final String TREE_SIZE = "category.tree.size";
+    public static final String TREE_DEPTH = "category.tree.depth";
+
+    private CategoryMetrics() {
+    }
+}
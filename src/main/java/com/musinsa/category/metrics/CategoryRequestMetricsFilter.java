@@ -0,0 +1,199 @@
+package com.musinsa.category.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * 카테고리 API 요청마다 실행한 SQL 문 수와 응답 본문 바이트 수를 엔드포인트(URI 패턴)별 분포로 기록
+ * 응답 시간은 Spring Boot가 기록하는 http.server.requests 사용
+ * 스트리밍 응답(비동기)은 응답이 끝난 시점에 바이트 수를 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryRequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ByteCountingResponse countingResponse = new ByteCountingResponse(response);
+        SqlStatementCounter.start();
+        int statements;
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+
+        Tags tags = tags(request, countingResponse);
+        record(CategoryMetrics.HTTP_SQL_STATEMENTS, "statements", tags, statements);
+        if (!request.isAsyncStarted()) {
+            record(CategoryMetrics.HTTP_RESPONSE_BYTES, "bytes", tags, countingResponse.getBytes());
+            return;
+        }
+
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                record(CategoryMetrics.HTTP_RESPONSE_BYTES, "bytes", tags(request, countingResponse), countingResponse.getBytes());
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private Tags tags(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Tags.of(
+                "uri", pattern == null ? UNKNOWN_URI : pattern.toString(),
+                "method", request.getMethod(),
+                "status", String.valueOf(response.getStatus()));
+    }
+
+    private void record(String name, String baseUnit, Tags tags, double amount) {
+        DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(amount);
+    }
+
+    /**
+     * 응답 본문에 쓰인 바이트 수를 세는 응답 래퍼 (본문을 버퍼에 담지 않음)
+     */
+    private static final class ByteCountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long bytes;
+        private ServletOutputStream outputStream;
+        private CountingWriter writer;
+
+        private ByteCountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) outputStream = new CountingOutputStream(super.getOutputStream());
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) writer = new CountingWriter(super.getWriter(), Charset.forName(getCharacterEncoding()));
+            return writer;
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            private CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                bytes += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        /**
+         * 문자 응답(오류 페이지 등)은 응답 문자셋으로 인코딩한 길이로 셈
+         */
+        private final class CountingWriter extends PrintWriter {
+
+            private final Charset charset;
+
+            private CountingWriter(PrintWriter delegate, Charset charset) {
+                super(delegate);
+                this.charset = charset;
+            }
+
+            @Override
+            public void write(int c) {
+                super.write(c);
+                bytes += String.valueOf((char) c).getBytes(charset).length;
+            }
+
+            @Override
+            public void write(char[] buf, int off, int len) {
+                super.write(buf, off, len);
+                bytes += new String(buf, off, len).getBytes(charset).length;
+            }
+
+            @Override
+            public void write(String s, int off, int len) {
+                super.write(s, off, len);
+                bytes += s.substring(off, off + len).getBytes(charset).length;
+            }
+        }
+    }
+}
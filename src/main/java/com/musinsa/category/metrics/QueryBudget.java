@@ -0,0 +1,18 @@
+package com.musinsa.category.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 1건이 실행할 수 있는 최대 SQL 문 수 (Hibernate를 거치는 SQL만 집계)
+ * 입력과 관계없이 고정된 조회만 포함하고, 깊이에 비례하는 조회는 실행 시점에 {@link SqlStatementCounter#allow(int)}로 더함
+ * 응답 본문을 쓰기 직전에 검사하며, 넘으면 category.query-budget.on-exceed 설정에 따라 경고 로그 또는 500 응답
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
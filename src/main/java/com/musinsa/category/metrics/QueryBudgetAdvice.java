@@ -0,0 +1,71 @@
+package com.musinsa.category.metrics;
+
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link QueryBudget}이 지정된 핸들러의 SQL 문 수를 응답 본문을 쓰기 직전에 검사
+ * 쓰기 요청도 서비스 트랜잭션 커밋(flush, 커밋 이후 스냅샷 교체)이 끝난 시점이므로 실행한 SQL이 모두 집계되어 있음
+ * 본문을 쓰기 전이므로 FAIL이면 오류 응답으로 바꿀 수 있으나, 쓰기 요청은 이미 커밋되었으므로 오류로 바꾸면
+ * 클라이언트가 실패로 보고 재시도하여 중복 생성될 수 있음 -> FAIL이어도 조회(GET/HEAD)만 오류로 바꾸고 쓰기는 경고 로그만 남김
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class QueryBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final CategoryProperties categoryProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int statements = SqlStatementCounter.current();
+        int budget = returnType.getMethodAnnotation(QueryBudget.class).value() + SqlStatementCounter.allowance();
+        if (statements <= budget) return body;
+
+        String uri = uriPattern(request);
+        Counter.builder(CategoryMetrics.HTTP_QUERY_BUDGET_EXCEEDED)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+        if (categoryProperties.getQueryBudget().getOnExceed() == CategoryProperties.OnExceed.FAIL
+                && isReadOnly(request.getMethod())) {
+            throw new QueryBudgetExceededException(uri, statements, budget);
+        }
+        log.warn("query budget exceeded: {} {} ({} statements, budget {})",
+                request.getMethod(), request.getURI().getPath(), statements, budget);
+        return body;
+    }
+
+    private boolean isReadOnly(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    private String uriPattern(ServerHttpRequest request) {
+        Object pattern = request instanceof ServletServerHttpRequest servletRequest
+                ? servletRequest.getServletRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+                : null;
+        return pattern == null ? request.getURI().getPath() : pattern.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.musinsa.category.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 현재 스레드의 요청 단위로 집계
+ * SessionFactory 통계는 모든 요청이 합산되므로 요청별 SQL 수는 스레드 로컬로 따로 센다
+ * JdbcTemplate으로 직접 실행하는 SQL(내보내기, 일괄 적재)은 집계되지 않음
+ * 단계마다 1회씩 조회하는 BFS처럼 요청/데이터의 깊이에 비례하는 조회는 실행하는 쪽에서 허용치를 더함 ({@link #allow(int)})
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final int NOT_COUNTING = -1;
+
+    private static final int STATEMENTS = 0;
+    private static final int ALLOWANCE = 1;
+
+    // [실행한 SQL 문 수, 허용치에 더할 SQL 문 수]
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 집계 시작
+     */
+    public static void start() {
+        COUNT.set(new int[2]);
+    }
+
+    /**
+     * @return start() 이후 지금까지 실행된 SQL 문 수 (집계 중이 아니면 {@link #NOT_COUNTING})
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? NOT_COUNTING : count[STATEMENTS];
+    }
+
+    /**
+     * 입력 크기에 비례하여 실행하는 SQL 문 수를 현재 요청의 허용치에 더함 (집계 중이 아니면 무시)
+     * @param statements
+     */
+    public static void allow(int statements) {
+        int[] count = COUNT.get();
+        if (count != null) count[ALLOWANCE] += statements;
+    }
+
+    /**
+     * @return start() 이후 {@link #allow(int)}로 더한 SQL 문 수
+     */
+    public static int allowance() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[ALLOWANCE];
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     * @return start() 이후 실행된 SQL 문 수
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[STATEMENTS];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) count[STATEMENTS]++;
+        return sql;
+    }
+}
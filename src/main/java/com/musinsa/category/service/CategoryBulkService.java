@@ -0,0 +1,203 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryBulkRequest;
+import com.musinsa.category.dto.response.CategoryResponse;
+import com.musinsa.category.dto.response.PagingResponse;
+import com.musinsa.category.exception.CategoryNotFoundException;
+import com.musinsa.category.exception.InvalidBulkRequestException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryBulkService {
+
+    public static final int MAX_BULK_SIZE = 50_000;
+    // 영속성 컨텍스트가 계속 커지지 않도록 주기적으로 flush/clear
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryProperties categoryProperties;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 카테고리 일괄 생성/수정
+     * 1. 요청 안의 부모 참조(parentRef)를 검증하고 부모가 먼저 오도록 정렬
+     * 2. 요청이 참조하는 기존 카테고리(부모, 수정 대상)를 한번에 조회
+     * 3. 수정 -> 생성 순으로 반영, INSERT/UPDATE는 hibernate JDBC 배치로 전송
+     * @param request
+     * @return 요청 순서와 같은 순서의 결과
+     */
+    @Transactional
+    public PagingResponse<CategoryResponse> upsertCategories(CategoryBulkRequest request) {
+        List<CategoryBulkRequest.Item> items = request.getCategories();
+        if (items.size() > MAX_BULK_SIZE) {
+            throw new InvalidBulkRequestException(String.format("한번에 최대 %d개까지 처리할 수 있습니다.", MAX_BULK_SIZE));
+        }
+
+        Map<String, CategoryBulkRequest.Item> itemsByRef = indexByRef(items);
+        Map<Long, Category> existing = loadReferencedCategories(items);
+        Map<CategoryBulkRequest.Item, Category> results = new IdentityHashMap<>(items.size());
+        Map<String, Category> categoriesByRef = new HashMap<>();
+
+        // 수정 대상은 clear 이전에 모두 반영해야 변경 감지가 동작함
+        for (CategoryBulkRequest.Item item : items) {
+            if (item.getId() == null) continue;
+            Category category = applyUpdate(item, existing);
+            results.put(item, category);
+            if (item.getRef() != null) categoriesByRef.put(item.getRef(), category);
+        }
+
+        List<Category> created = new ArrayList<>();
+        for (CategoryBulkRequest.Item item : orderParentsFirst(items, itemsByRef)) {
+            Category parent = item.getParentRef() != null
+                    ? categoriesByRef.get(item.getParentRef())
+                    : item.getParentId() != null ? existing.get(item.getParentId()) : null;
+            Category category = create(item, parent);
+            results.put(item, category);
+            created.add(category);
+            if (item.getRef() != null) categoriesByRef.put(item.getRef(), category);
+
+            if (created.size() % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+
+        if (categoryProperties.getClosureTable().isEnabled()) {
+            categoryClosureRepository.insertForNewCategories(created);
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.bulk());
+
+        return PagingResponse.of(items.stream()
+                .map(item -> CategoryResponse.from(results.get(item)))
+                .toList());
+    }
+
+    private Category create(CategoryBulkRequest.Item item, Category parent) {
+        Category category = Category.builder()
+                .name(item.getName())
+                .slug(item.getSlug())
+                .parentId(parent == null ? null : parent.getId())
+                .ancestorId(parent == null ? null : parent.getRootId())
+                .sortOrder(item.getOrder())
+                .build();
+        // persist 시점에 시퀀스에서 ID가 할당되므로 바로 경로 지정 가능
+        entityManager.persist(category);
+        category.assignPath(parent);
+        return category;
+    }
+
+    /**
+     * 이름/slug/정렬순서만 수정, 부모 변경은 하위 트리 갱신이 필요하므로 단건 수정으로 처리
+     * @param item
+     * @param existing
+     * @return
+     */
+    private Category applyUpdate(CategoryBulkRequest.Item item, Map<Long, Category> existing) {
+        Category category = existing.get(item.getId());
+        if (item.getParentRef() != null || !Objects.equals(item.getParentId(), category.getParentId())) {
+            throw new InvalidBulkRequestException(
+                    String.format("일괄 수정에서는 상위 카테고리를 변경할 수 없습니다. (id: %d)", item.getId()));
+        }
+        category.update(item.getName(), item.getSlug(), category.getParentId(), category.getAncestorId(), item.getOrder());
+        return category;
+    }
+
+    /**
+     * ref 중복, parentRef/parentId 동시 사용, 존재하지 않는 parentRef 검증
+     * @param items
+     * @return
+     */
+    private Map<String, CategoryBulkRequest.Item> indexByRef(List<CategoryBulkRequest.Item> items) {
+        Map<String, CategoryBulkRequest.Item> itemsByRef = new HashMap<>();
+        for (CategoryBulkRequest.Item item : items) {
+            if (item.getRef() != null && itemsByRef.put(item.getRef(), item) != null) {
+                throw new InvalidBulkRequestException(String.format("ref가 중복되었습니다. (ref: %s)", item.getRef()));
+            }
+        }
+        for (CategoryBulkRequest.Item item : items) {
+            if (item.getParentRef() == null) continue;
+            if (item.getParentId() != null) {
+                throw new InvalidBulkRequestException("parentId와 parentRef는 함께 사용할 수 없습니다.");
+            }
+            if (!itemsByRef.containsKey(item.getParentRef())) {
+                throw new InvalidBulkRequestException(
+                        String.format("존재하지 않는 parentRef입니다. (parentRef: %s)", item.getParentRef()));
+            }
+        }
+        return itemsByRef;
+    }
+
+    /**
+     * 요청이 참조하는 기존 카테고리(부모 ID, 수정 대상 ID)를 한번에 조회
+     * @param items
+     * @return
+     */
+    private Map<Long, Category> loadReferencedCategories(List<CategoryBulkRequest.Item> items) {
+        Set<Long> ids = new HashSet<>();
+        for (CategoryBulkRequest.Item item : items) {
+            if (item.getId() != null) ids.add(item.getId());
+            if (item.getParentId() != null) ids.add(item.getParentId());
+        }
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Long, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAllById(ids)) {
+            categories.put(category.getId(), category);
+        }
+        for (Long id : ids) {
+            if (!categories.containsKey(id)) throw new CategoryNotFoundException(id);
+        }
+        return categories;
+    }
+
+    /**
+     * 생성 대상을 부모가 먼저 오도록 정렬 (위상 정렬)
+     * 요청 안에서 parentRef가 순환하면 정렬되지 않는 항목이 남으므로 오류
+     * @param items
+     * @param itemsByRef
+     * @return
+     */
+    private List<CategoryBulkRequest.Item> orderParentsFirst(List<CategoryBulkRequest.Item> items,
+                                                            Map<String, CategoryBulkRequest.Item> itemsByRef) {
+        Map<String, List<CategoryBulkRequest.Item>> childrenByParentRef = new HashMap<>();
+        List<CategoryBulkRequest.Item> ordered = new ArrayList<>();
+        int createCount = 0;
+        for (CategoryBulkRequest.Item item : items) {
+            if (item.getId() != null) continue;
+            createCount++;
+            CategoryBulkRequest.Item parentItem = item.getParentRef() == null ? null : itemsByRef.get(item.getParentRef());
+            // 부모가 요청 밖에 있거나 수정 대상이면 바로 생성 가능
+            if (parentItem == null || parentItem.getId() != null) {
+                ordered.add(item);
+            } else {
+                childrenByParentRef.computeIfAbsent(item.getParentRef(), key -> new ArrayList<>()).add(item);
+            }
+        }
+
+        for (int i = 0; i < ordered.size(); i++) {
+            String ref = ordered.get(i).getRef();
+            if (ref != null) ordered.addAll(childrenByParentRef.getOrDefault(ref, List.of()));
+        }
+
+        if (ordered.size() != createCount) {
+            throw new InvalidBulkRequestException("parentRef가 순환 참조하고 있습니다.");
+        }
+        return ordered;
+    }
+}
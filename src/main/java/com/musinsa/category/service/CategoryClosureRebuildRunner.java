@@ -0,0 +1,48 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * category.closure-table.enabled=true 일 때 애플리케이션 시작 시 closure table이 categories와 어긋나 있으면 다시 채움
+ * 비활성 상태에서 등록/이동/삭제한 뒤 켜면 관계가 갱신되지 않은 채 남아 subtree-fetch=closure 조회가 이전 트리를 반환하므로,
+ * 다른 시작 작업(NDJSON 적재, 합성 데이터 생성)보다 먼저 확인하고 어긋난 경우에만 비우고 재귀 CTE 1회로 다시 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "category.closure-table", name = "enabled", havingValue = "true")
+public class CategoryClosureRebuildRunner implements ApplicationRunner {
+
+    private final CategoryClosureRepository categoryClosureRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        rebuildIfStale();
+    }
+
+    /**
+     * @return 다시 채웠으면 true
+     */
+    @Transactional
+    public boolean rebuildIfStale() {
+        long staleRows = categoryClosureRepository.countStaleRows();
+        if (staleRows == 0) return false;
+
+        log.warn("category_closure is out of sync with categories ({} stale rows), rebuilding", staleRows);
+        categoryClosureRepository.deleteAllInBatch();
+        int inserted = categoryClosureRepository.insertAllFromCategories();
+        log.info("category_closure rebuilt with {} rows", inserted);
+        return true;
+    }
+}
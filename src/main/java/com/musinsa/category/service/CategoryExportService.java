@@ -0,0 +1,110 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.domain.repository.CategoryTreeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 전체 활성 트리를 DB에서 읽는 즉시 JSON으로 기록
+ * 엔티티/응답 객체/전체 문자열을 만들지 않으므로 카테고리 수와 관계없이 첫 바이트 시간과 메모리 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryExportService {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 카테고리 조회와 같은 형태({"data": [...]})의 계층 JSON
+     * 깊이 우선 순서로 읽으므로 열려 있는 상위 카테고리 개수(깊이)만 기억하면 된다
+     * @param outputStream
+     */
+    public void exportTree(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+
+            int[] openDepth = {0};
+            stream(row -> {
+                // 이전 행보다 얕거나 같은 깊이면 그만큼 열린 카테고리를 닫음
+                for (; openDepth[0] > row.getDepth(); openDepth[0]--) closeNode(generator);
+
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.getId());
+                generator.writeStringField("name", row.getName());
+                generator.writeStringField("slug", row.getSlug());
+                generator.writeNumberField("order", row.getSortOrder());
+                generator.writeArrayFieldStart("children");
+                openDepth[0]++;
+            });
+            for (; openDepth[0] > 0; openDepth[0]--) closeNode(generator);
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 한 줄에 카테고리 하나씩 기록하는 NDJSON (부모가 자식보다 먼저, NDJSON 적재 형식과 동일)
+     * 부모가 비활성이라 최상위로 나온 카테고리는 내보내지 않은 부모를 가리키지 않도록 parentId를 생략
+     * @param outputStream
+     */
+    public void exportNdjson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            stream(row -> {
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.getId());
+                if (row.getDepth() > 0) generator.writeNumberField("parentId", row.getParentId());
+                generator.writeStringField("name", row.getName());
+                generator.writeStringField("slug", row.getSlug());
+                generator.writeNumberField("order", row.getSortOrder());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        // 응답 스트림은 스프링이 닫음
+        return objectMapper.getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private void closeNode(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void stream(RowWriter writer) throws IOException {
+        try {
+            categoryRepository.streamActiveTree(FETCH_SIZE, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(CategoryTreeRow row) throws IOException;
+    }
+}
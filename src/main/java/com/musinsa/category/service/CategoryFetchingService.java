@@ -1,15 +1,27 @@
 package com.musinsa.category.service;
 
+import com.musinsa.category.cache.CategoryTreeCache;
+import com.musinsa.category.config.CategoryProperties;
 import com.musinsa.category.domain.entity.Category;
 import com.musinsa.category.domain.repository.CategoryRepository;
-import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.request.CategoryCursor;
+import com.musinsa.category.dto.response.CategoryBreadcrumbResponse;
 import com.musinsa.category.dto.response.CategoryResponse;
 import com.musinsa.category.dto.response.CategoryTreeResponse;
 import com.musinsa.category.dto.response.PagingResponse;
 import com.musinsa.category.exception.CategoryNotFoundException;
+import com.musinsa.category.exception.InvalidBulkRequestException;
+import com.musinsa.category.exception.InvalidDepthException;
+import com.musinsa.category.exception.InvalidPagingException;
+import com.musinsa.category.metrics.CategoryMetrics;
+import com.musinsa.category.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -19,58 +31,451 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CategoryFetchingService {
 
+    public static final int DEFAULT_CHILDREN_PAGE_SIZE = 20;
+    public static final int MAX_CHILDREN_PAGE_SIZE = 100;
+    public static final int MAX_BREADCRUMB_IDS = 500;
+    private static final int UNBOUNDED_DEPTH = Integer.MAX_VALUE;
+
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryProperties categoryProperties;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 전체 카테고리 목록을 트리 형태로 반환
+     * 트리 캐시 사용 시 스냅샷을 그대로 반환 (DB 조회 없음)
      * @return
      */
     public PagingResponse<CategoryTreeResponse> getAllCategories() {
+        if (categoryTreeCache.isEnabled()) {
+            return PagingResponse.of(categoryTreeCache.getSnapshot().getRoots());
+        }
+
         List<Category> allCategories = categoryRepository.findAllByIsActiveTrueOrderBySortOrderAsc();
         return PagingResponse.of(buildResponseAsTree(allCategories));
     }
 
+    /**
+     * 전체 카테고리 목록을 최상위부터 depth 단계까지만 트리 형태로 반환
+     * 트리 캐시 사용 시 스냅샷에서 depth 단계까지만 복사, 아니면 depth 단계까지만 재귀 CTE 1회로 조회
+     * @param depth 0이면 최상위 카테고리만
+     * @return
+     */
+    public PagingResponse<CategoryTreeResponse> getAllCategories(int depth) {
+        validateDepth(depth);
+        if (categoryTreeCache.isEnabled()) {
+            return PagingResponse.of(categoryTreeCache.getSnapshot().getRoots().stream()
+                    .map(root -> root.truncate(depth))
+                    .toList());
+        }
+
+        List<Category> categories = categoryRepository.findTreeByRecursiveCte(depth);
+        return PagingResponse.of(markTruncated(buildResponseAsTree(categories), depth));
+    }
+
     /**
      * 특정 카테고리와 그 하위 카테고리 목록을 트리구조로 반환
      * @param id
      * @return
      */
     public CategoryTreeResponse getCategoryWithChildren(Long id) {
-        List<Category> categoryWithDescendants = getCategoryWithDescendants(id);
-        List<CategoryTreeResponse> treeResponses = buildResponseAsTree(categoryWithDescendants);
+        if (categoryTreeCache.isEnabled()) {
+            Optional<CategoryTreeResponse> cached = categoryTreeCache.getSnapshot().find(id);
+            if (cached.isPresent()) return cached.get();
+            // 스냅샷에는 활성 카테고리만 있으므로 없는 경우 DB에서 확인
+        }
+
+        return buildSubtree(id, UNBOUNDED_DEPTH);
+    }
+
+    /**
+     * 특정 카테고리와 그 하위 카테고리를 depth 단계까지만 트리구조로 반환
+     * 더 깊은 단계는 조회/변환/직렬화하지 않고, 마지막 단계 카테고리에 자식 수(childCount, hasChildren)만 표시
+     * @param id
+     * @param depth 0이면 자기 자신만
+     * @return
+     */
+    public CategoryTreeResponse getCategoryWithChildren(Long id, int depth) {
+        validateDepth(depth);
+        if (categoryTreeCache.isEnabled()) {
+            Optional<CategoryTreeResponse> cached = categoryTreeCache.getSnapshot().find(id);
+            if (cached.isPresent()) return cached.get().truncate(depth);
+        }
+
+        CategoryTreeResponse subtree = buildSubtree(id, depth);
+        markTruncated(List.of(subtree), depth);
+        return subtree;
+    }
+
+    private CategoryTreeResponse buildSubtree(Long id, int maxDepth) {
+        List<Category> categories = getCategoryWithDescendants(id, maxDepth);
+        return treeBuildTimer("subtree").record(() -> {
+            CategoryTreeArrays tree = CategoryTreeArrays.of(categories);
+
+            // 요청한 ID와 동일한 카테고리 찾기
+            int index = tree.indexOf(id);
+            if (index == CategoryTreeArrays.NONE) throw new CategoryNotFoundException(id);
+            return tree.toResponse(index);
+        });
+    }
+
+    private void validateDepth(int depth) {
+        if (depth < 0) throw new InvalidDepthException();
+    }
+
+    /**
+     * depth 단계 카테고리들의 활성 자식 수를 한번에 조회하여 표시
+     * @param roots
+     * @param depth
+     * @return
+     */
+    private List<CategoryTreeResponse> markTruncated(List<CategoryTreeResponse> roots, int depth) {
+        List<CategoryTreeResponse> level = roots;
+        for (int i = 0; i < depth; i++) {
+            level = level.stream().flatMap(node -> node.getChildren().stream()).toList();
+        }
+        if (level.isEmpty()) return roots;
+
+        Map<Long, Long> childCounts = categoryRepository.countActiveChildren(
+                        level.stream().map(CategoryTreeResponse::getId).toList()).stream()
+                .collect(Collectors.toMap(CategoryRepository.ChildCount::getParentId, CategoryRepository.ChildCount::getChildCount));
+        level.forEach(node -> node.markTruncated(childCounts.getOrDefault(node.getId(), 0L).intValue()));
+        return roots;
+    }
+
+    /**
+     * slug로 카테고리와 그 하위 카테고리 목록을 트리구조로 반환
+     * 트리 캐시 사용 시 스냅샷의 slug 인덱스에서 조회 (DB 조회 없음)
+     * @param slug
+     * @return
+     */
+    public CategoryTreeResponse getCategoryBySlug(String slug) {
+        if (categoryTreeCache.isEnabled()) {
+            return categoryTreeCache.getSnapshot().findBySlug(slug)
+                    .orElseThrow(() -> new CategoryNotFoundException("slug", slug));
+        }
+
+        Category category = categoryRepository.findFirstBySlugAndIsActiveTrueOrderByIdAsc(slug)
+                .orElseThrow(() -> new CategoryNotFoundException("slug", slug));
+        return getCategoryWithChildren(category.getId());
+    }
+
+    /**
+     * URL 경로(최상위부터의 slug 목록)로 카테고리와 그 하위 카테고리 목록을 트리구조로 반환
+     * 트리 캐시 사용 시 (부모 ID, slug) 인덱스를 메모리에서 한 단계씩 따라가고,
+     * 아니면 경로의 slug를 IN 조회 1회로 읽은 뒤 메모리에서 따라감 (같은 부모 아래 slug가 겹치면 ID가 작은 카테고리)
+     * @param slugs 예) [top, shirts, oxford]
+     * @return
+     */
+    public CategoryTreeResponse getCategoryByPath(List<String> slugs) {
+        String path = String.join(Category.PATH_DELIMITER, slugs);
+        if (slugs.isEmpty()) throw new CategoryNotFoundException("path", path);
+
+        if (categoryTreeCache.isEnabled()) {
+            return categoryTreeCache.getSnapshot().findByPath(slugs)
+                    .orElseThrow(() -> new CategoryNotFoundException("path", path));
+        }
+
+        Map<String, List<Category>> candidatesBySlug = categoryRepository.findAllBySlugInAndIsActiveTrue(slugs).stream()
+                .collect(Collectors.groupingBy(Category::getSlug));
+        Long parentId = null;
+        for (String slug : slugs) {
+            Long currentParentId = parentId;
+            parentId = candidatesBySlug.getOrDefault(slug, List.of()).stream()
+                    .filter(category -> Objects.equals(category.getParentId(), currentParentId))
+                    .map(Category::getId)
+                    .min(Long::compare)
+                    .orElseThrow(() -> new CategoryNotFoundException("path", path));
+        }
+        return getCategoryWithChildren(parentId);
+    }
+
+    /**
+     * 직계 하위 카테고리 목록을 (sort_order, id) keyset 커서로 페이징하여 반환
+     * after: 해당 커서 이후 페이지, before: 해당 커서 이전 페이지, 둘 다 없으면 첫 페이지
+     * @param id
+     * @param size
+     * @param after
+     * @param before
+     * @return
+     */
+    public PagingResponse<CategoryResponse> getChildren(Long id, Integer size, String after, String before) {
+        int pageSize = size == null ? DEFAULT_CHILDREN_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_CHILDREN_PAGE_SIZE) {
+            throw new InvalidPagingException(String.format("페이지 크기는 1 ~ %d 사이여야 합니다.", MAX_CHILDREN_PAGE_SIZE));
+        }
+        if (after != null && before != null) {
+            throw new InvalidPagingException("after와 before는 함께 사용할 수 없습니다.");
+        }
+        if (!categoryRepository.existsById(id)) throw new CategoryNotFoundException(id);
 
-        if (treeResponses.isEmpty()) throw new CategoryNotFoundException(id);
+        // 다음(이전) 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Category> children;
+        boolean hasNext;
+        boolean hasPrev;
+        if (before != null) {
+            CategoryCursor cursor = CategoryCursor.decode(before);
+            children = new ArrayList<>(categoryRepository.findChildrenBefore(id, cursor.getSortOrder(), cursor.getId(), limit));
+            hasPrev = children.size() > pageSize;
+            if (hasPrev) children = children.subList(0, pageSize);
+            Collections.reverse(children);
+            hasNext = true;
+        } else if (after != null) {
+            CategoryCursor cursor = CategoryCursor.decode(after);
+            children = categoryRepository.findChildrenAfter(id, cursor.getSortOrder(), cursor.getId(), limit);
+            hasNext = children.size() > pageSize;
+            if (hasNext) children = children.subList(0, pageSize);
+            hasPrev = true;
+        } else {
+            children = categoryRepository.findAllByParentIdAndIsActiveTrueOrderBySortOrderAscIdAsc(id, limit);
+            hasNext = children.size() > pageSize;
+            if (hasNext) children = children.subList(0, pageSize);
+            hasPrev = false;
+        }
 
-        // 요청한 ID와 동일한 카테고리 찾기
-        return treeResponses.stream()
-                .filter(response -> response.getId().equals(id))
-                .findFirst()
+        List<CategoryResponse> data = children.stream().map(CategoryResponse::from).toList();
+        return PagingResponse.of(data, buildChildrenPaging(id, pageSize, children, hasNext, hasPrev));
+    }
+
+    private PagingResponse.Paging buildChildrenPaging(Long id, int pageSize, List<Category> children,
+                                                      boolean hasNext, boolean hasPrev) {
+        if (children.isEmpty()) return PagingResponse.Paging.builder().pageSize(pageSize).build();
+
+        String first = CategoryCursor.from(children.get(0)).encode();
+        String last = CategoryCursor.from(children.get(children.size() - 1)).encode();
+        return PagingResponse.Paging.builder()
+                .pageSize(pageSize)
+                .cursors(PagingResponse.Cursors.builder()
+                        .before(first)
+                        .after(last)
+                        .build())
+                .links(PagingResponse.Links.builder()
+                        .next(hasNext ? childrenLink(id, pageSize, "after", last) : null)
+                        .prev(hasPrev ? childrenLink(id, pageSize, "before", first) : null)
+                        .build())
+                .build();
+    }
+
+    private String childrenLink(Long id, int pageSize, String cursorName, String cursor) {
+        return UriComponentsBuilder.fromPath("/api/categories/{id}/children")
+                .queryParam("size", pageSize)
+                .queryParam(cursorName, cursor)
+                .buildAndExpand(id)
+                .toUriString();
+    }
+
+    /**
+     * 최상위 카테고리부터 자기 자신까지의 경로(breadcrumb) 반환
+     * 트리 캐시 사용 시 스냅샷의 부모 포인터 배열을 따라 올라감 (DB 조회 없음)
+     * closure table 사용 시 조인 1회, 그 외에는 materialized path에 포함된 ID로 한번에 조회
+     * @param id
+     * @return
+     */
+    public PagingResponse<CategoryResponse> getAncestors(Long id) {
+        if (categoryTreeCache.isEnabled()) {
+            Optional<List<CategoryResponse>> cached = categoryTreeCache.getSnapshot().findAncestors(id);
+            if (cached.isPresent()) return PagingResponse.of(cached.get());
+            // 비활성 카테고리가 포함된 경로는 DB에서 확인
+        }
+
+        if (categoryProperties.getSubtreeFetch() == CategoryProperties.SubtreeFetch.CLOSURE) {
+            List<Category> ancestors = categoryRepository.findAncestorsByClosure(id);
+            if (ancestors.isEmpty()) throw new CategoryNotFoundException(id);
+            return PagingResponse.of(ancestors.stream().map(CategoryResponse::from).toList());
+        }
+
+        Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException(id));
+        if (category.getPath() == null) return PagingResponse.of(walkUpAncestors(category));
+
+        List<Long> pathIds = category.getPathIds();
+        Map<Long, Category> categoryMap = categoryRepository.findAllById(pathIds).stream()
+                .collect(Collectors.toMap(Category::getId, ancestor -> ancestor));
+        List<CategoryResponse> ancestors = pathIds.stream()
+                .map(categoryMap::get)
+                .filter(Objects::nonNull)
+                .map(CategoryResponse::from)
+                .toList();
+        return PagingResponse.of(ancestors);
     }
 
     /**
-     * 재귀 CTE 사용하지 않고 특정 카테고리 Id 기준으로 자기 자신과 모든 하위 카테고리를 평면 리스트로 수집
+     * 여러 카테고리의 상위 경로를 한번에 반환 (목록 화면의 breadcrumb 용)
+     * 트리 캐시에서 찾지 못한 카테고리만 모아 경로에 포함된 ID로 한번에 조회
+     * 존재하지 않는 카테고리는 결과에서 제외
+     * @param ids
+     * @return 요청 순서 (중복 제거)
+     */
+    public PagingResponse<CategoryBreadcrumbResponse> getBreadcrumbs(List<Long> ids) {
+        if (ids.size() > MAX_BREADCRUMB_IDS) {
+            throw new InvalidBulkRequestException(String.format("한번에 최대 %d개까지 조회할 수 있습니다.", MAX_BREADCRUMB_IDS));
+        }
+
+        Map<Long, List<CategoryResponse>> breadcrumbs = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Optional<List<CategoryResponse>> cached = categoryTreeCache.isEnabled()
+                    ? categoryTreeCache.getSnapshot().findAncestors(id)
+                    : Optional.empty();
+            breadcrumbs.put(id, cached.orElse(null));
+            if (cached.isEmpty()) misses.add(id);
+        }
+        if (!misses.isEmpty()) breadcrumbs.putAll(findBreadcrumbs(misses));
+
+        return PagingResponse.of(breadcrumbs.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(entry -> CategoryBreadcrumbResponse.of(entry.getKey(), entry.getValue()))
+                .toList());
+    }
+
+    /**
+     * 카테고리 조회 1회 + 경로에 포함된 모든 조상 조회 1회
+     * @param ids
+     * @return
+     */
+    private Map<Long, List<CategoryResponse>> findBreadcrumbs(List<Long> ids) {
+        List<Category> categories = categoryRepository.findAllById(ids);
+        Set<Long> pathIds = new HashSet<>();
+        for (Category category : categories) {
+            pathIds.addAll(category.getPathIds());
+        }
+        Map<Long, Category> ancestorMap = categoryRepository.findAllById(pathIds).stream()
+                .collect(Collectors.toMap(Category::getId, ancestor -> ancestor));
+
+        Map<Long, List<CategoryResponse>> breadcrumbs = new HashMap<>();
+        for (Category category : categories) {
+            List<CategoryResponse> ancestors = category.getPath() == null
+                    ? walkUpAncestors(category)
+                    : category.getPathIds().stream()
+                            .map(ancestorMap::get)
+                            .filter(Objects::nonNull)
+                            .map(CategoryResponse::from)
+                            .toList();
+            breadcrumbs.put(category.getId(), ancestors);
+        }
+        return breadcrumbs;
+    }
+
+    /**
+     * 경로가 채워지지 않은 데이터는 parent_id를 따라 올라가며 조회
+     * @param category
+     * @return
+     */
+    private List<CategoryResponse> walkUpAncestors(Category category) {
+        LinkedList<CategoryResponse> ancestors = new LinkedList<>();
+        Category current = category;
+        while (current != null) {
+            ancestors.addFirst(CategoryResponse.from(current));
+            current = current.hasParent() ? categoryRepository.findById(current.getParentId()).orElse(null) : null;
+        }
+        return ancestors;
+    }
+
+    /**
+     * 특정 카테고리 Id 기준으로 자기 자신과 모든 하위 카테고리를 평면 리스트로 수집
+     * category.subtree-fetch 설정에 따라 조회 방식 선택
+     * depth 제한이 있으면 materialized path는 깊이를 구분할 수 없으므로 재귀 CTE로 조회
+     * @param id
+     * @param maxDepth 조회할 최대 단계 (제한 없으면 UNBOUNDED_DEPTH)
+     * @return
+     */
+    private List<Category> getCategoryWithDescendants(Long id, int maxDepth) {
+        return switch (categoryProperties.getSubtreeFetch()) {
+            case BFS -> getCategoryWithDescendantsByBfs(id, maxDepth);
+            case RECURSIVE_CTE -> getCategoryWithDescendantsByRecursiveCte(id, maxDepth);
+            case PATH -> maxDepth == UNBOUNDED_DEPTH
+                    ? getCategoryWithDescendantsByPath(id)
+                    : getCategoryWithDescendantsByRecursiveCte(id, maxDepth);
+            case CLOSURE -> getCategoryWithDescendantsByClosure(id, maxDepth);
+        };
+    }
+
+    /**
+     * closure table 조인 1회로 자기 자신과 모든 하위 카테고리 조회
      * @param id
      * @return
      */
-    private List<Category> getCategoryWithDescendants(Long id) {
+    private List<Category> getCategoryWithDescendantsByClosure(Long id, int maxDepth) {
+        List<Category> result = categoryRepository.findSubtreeByClosure(id, maxDepth);
+        if (result.isEmpty()) throw new CategoryNotFoundException();
+        return result;
+    }
+
+    /**
+     * materialized path 접두어(LIKE 'prefix%') 인덱스 범위 조회로 하위 카테고리 수집
+     * 자기 자신 조회 1회 + 하위 트리 조회 1회로 깊이와 무관
+     * 비활성 카테고리 아래의 하위 카테고리도 조회되지만 트리 구성 시 요청 카테고리와 연결되지 않아 제외됨
+     * @param id
+     * @return
+     */
+    private List<Category> getCategoryWithDescendantsByPath(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(CategoryNotFoundException::new);
+        // 경로가 채워지지 않은 데이터는 BFS로 조회
+        if (category.getPath() == null) return getCategoryWithDescendantsByBfs(id, UNBOUNDED_DEPTH);
 
-        // 1. 결과로 반환할 전체 카테고리 리스트를 생성
         List<Category> result = new ArrayList<>();
         result.add(category);
+        result.addAll(categoryRepository.findAllByPathStartingWithAndIdNotAndIsActiveTrueOrderBySortOrderAsc(
+                category.getPath(), id));
+        return result;
+    }
+
+    /**
+     * 재귀 CTE로 자기 자신과 모든 하위 카테고리를 한번에 조회 (깊이와 무관하게 1회 조회)
+     * @param id
+     * @return
+     */
+    private List<Category> getCategoryWithDescendantsByRecursiveCte(Long id, int maxDepth) {
+        List<Category> result = maxDepth == UNBOUNDED_DEPTH
+                ? categoryRepository.findSubtreeByRecursiveCte(id)
+                : categoryRepository.findSubtreeByRecursiveCte(id, maxDepth);
+        if (result.isEmpty()) throw new CategoryNotFoundException();
+        return result;
+    }
+
+    /**
+     * 재귀 CTE 사용하지 않고 특정 카테고리 Id 기준으로 자기 자신과 모든 하위 카테고리를 평면 리스트로 수집
+     * 깊이마다 1회씩 조회하므로 비교용으로 유지
+     * @param id
+     * @return
+     */
+    private List<Category> getCategoryWithDescendantsByBfs(Long id, int maxDepth) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(CategoryNotFoundException::new);
+        return collectDescendantsByBfs(List.of(category), maxDepth);
+    }
+
+    /**
+     * 시작 카테고리들과 maxDepth 단계까지의 하위 카테고리를 깊이마다 1회씩 조회하여 평면 리스트로 수집
+     * @param startCategories
+     * @param maxDepth
+     * @return
+     */
+    private List<Category> collectDescendantsByBfs(List<Category> startCategories, int maxDepth) {
+        return Timer.builder(CategoryMetrics.SUBTREE_BFS)
+                .description("깊이마다 1회씩 조회하는 BFS 루프 전체 시간")
+                .register(meterRegistry)
+                .record(() -> collectDescendantsByBfsUntimed(startCategories, maxDepth));
+    }
+
+    private List<Category> collectDescendantsByBfsUntimed(List<Category> startCategories, int maxDepth) {
+        // 1. 결과로 반환할 전체 카테고리 리스트를 생성
+        List<Category> result = new ArrayList<>(startCategories);
 
         // 2. 하위 카테고리를 탐색하기 위한 큐(Queue)를 생성하고 시작 카테고리의 ID를 추가
-        List<Long> categoriesToSearch = new LinkedList<>();
-        categoriesToSearch.add(category.getId());
+        List<Long> categoriesToSearch = startCategories.stream()
+                .map(Category::getId)
+                .collect(Collectors.toList());
 
-        // 3. 큐가 빌 때까지 반복하여 모든 하위 카테고리를 탐색
-        while (!categoriesToSearch.isEmpty()) {
+        // 3. 큐가 비거나 maxDepth 단계에 도달할 때까지 반복하여 하위 카테고리를 탐색
+        for (int depth = 0; depth < maxDepth && !categoriesToSearch.isEmpty(); depth++) {
             // 큐에서 현재 탐색할 부모 카테고리의 ID를 추출.
             List<Long> parentIds = new ArrayList<>(categoriesToSearch);
 
-            // 현재 부모 ID에 해당하는 직계 자식 카테고리들을 DB에서 조회
+            // 현재 부모 ID에 해당하는 직계 자식 카테고리들을 DB에서 조회 (단계 수만큼 늘어나는 조회이므로 허용치에 더함)
+            SqlStatementCounter.allow(1);
             List<Category> children = categoryRepository.findAllByParentIdInAndIsActiveTrueOrderBySortOrderAsc(parentIds);
             if(children.isEmpty()) break;
 
@@ -86,63 +491,25 @@ public class CategoryFetchingService {
         return result;
     }
 
-    private List<CategoryTreeResponse> buildResponseAsTree(List<Category> categories) {
-        if (categories.isEmpty()) return Collections.emptyList();
-        Map<Long, CategoryTreeResponse> nodeMap = createNodeMap(categories);
-        Set<Long> hasParentInList = buildRelationshipsAndGetCategoryIdsWithoutParent(categories, nodeMap);
-        return findRootNodes(categories, nodeMap, hasParentInList);
-    }
-
     /**
-     * category 목록을 response로 변환
-     * search 복잡도 O(1)을 만들기 위해 Map(id : response) 형태로 변환하여 응답
+     * 평면 목록을 배열 기반 트리로 구성한 뒤 루트부터 응답으로 변환
+     * 부모가 목록에 없는 카테고리는 루트로 취급
      * @param categories
      * @return
      */
-    private Map<Long, CategoryTreeResponse> createNodeMap(List<Category> categories) {
-        return categories.stream()
-                .collect(Collectors.toMap(
-                        Category::getId,
-                        CategoryTreeResponse::from
-                ));
-    }
-
-    /**
-     * 1. nodeMap의 요소를 parent와 child 트리구조로 연관관계 매핑
-     * 2. 넘겨준 category 목록에서 상위 부모가 list에 있는 카테고리 id만 추출
-     * @param categories
-     * @param nodeMap
-     * @return
-     */
-    private Set<Long> buildRelationshipsAndGetCategoryIdsWithoutParent(
-            List<Category> categories, Map<Long, CategoryTreeResponse> nodeMap) {
-        Set<Long> childIds = new HashSet<>();
-        for (Category category : categories) {
-            Long parentId = category.getParentId();
-            if (category.hasParent() && nodeMap.containsKey(parentId)) {
-                CategoryTreeResponse parent = nodeMap.get(parentId);
-                CategoryTreeResponse child = nodeMap.get(category.getId());
-                parent.addChild(child);
-                childIds.add(category.getId());
-            }
-        }
-        return childIds;
+    private List<CategoryTreeResponse> buildResponseAsTree(List<Category> categories) {
+        if (categories.isEmpty()) return Collections.emptyList();
+        return treeBuildTimer("tree").record(() -> CategoryTreeArrays.of(categories).toRoots());
     }
 
     /**
-     * 루트 노드를 찾아서 반환
-     * @param categories
-     * @param nodeMap
-     * @param childIds
+     * @param scope tree: 전체 트리, subtree: 특정 카테고리의 하위 트리
      * @return
      */
-    private List<CategoryTreeResponse> findRootNodes(List<Category> categories,
-                                                     Map<Long, CategoryTreeResponse> nodeMap,
-                                                     Set<Long> childIds) {
-        return categories.stream()
-                .filter(category -> !childIds.contains(category.getId()))
-                .map(category -> nodeMap.get(category.getId()))
-                .sorted(Comparator.comparing(CategoryTreeResponse::getOrder))
-                .collect(Collectors.toList());
+    private Timer treeBuildTimer(String scope) {
+        return Timer.builder(CategoryMetrics.TREE_BUILD)
+                .description("평면 목록을 응답 트리로 구성하는 시간")
+                .tag("scope", scope)
+                .register(meterRegistry);
     }
 }
\ No newline at end of file
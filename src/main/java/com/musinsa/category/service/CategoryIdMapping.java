@@ -0,0 +1,149 @@
+package com.musinsa.category.service;
+
+/**
+ * 원본 ID -> 새 ID 매핑 (open addressing, long 배열 2개)
+ * 수백만 건 적재 시 HashMap&lt;Long, Long&gt; 대비 박싱/엔트리 객체가 없어 행당 약 20~40바이트만 사용
+ * parentSlug 참조를 묶음 크기와 무관하게 풀기 위해 적재 전체에서 slug 해시 -> 새 ID도 같은 구조로 유지 (행당 약 20~40바이트 추가)
+ * slug 문자열은 보관하지 않으므로 찾은 ID의 slug가 실제로 같은지는 호출하는 쪽에서 조회한 카테고리로 확인 (같은 slug는 나중 행이 우선)
+ */
+final class CategoryIdMapping {
+
+    static final long MISSING = -1L;
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final LongTable ids;
+    private final LongTable idsBySlugHash;
+
+    CategoryIdMapping() {
+        this(1 << 10);
+    }
+
+    CategoryIdMapping(int initialCapacity) {
+        this.ids = new LongTable(initialCapacity);
+        this.idsBySlugHash = new LongTable(initialCapacity);
+    }
+
+    /**
+     * @param key 0보다 큰 원본 ID
+     * @param value 새 ID
+     * @return 이미 매핑된 키면 false
+     */
+    boolean putIfAbsent(long key, long value) {
+        if (key <= EMPTY) {
+            throw new IllegalArgumentException("key must be positive: " + key);
+        }
+        return ids.put(key, value, false);
+    }
+
+    /**
+     * @param key
+     * @return 매핑이 없으면 {@link #MISSING}
+     */
+    long get(long key) {
+        return key <= EMPTY ? MISSING : ids.get(key);
+    }
+
+    int size() {
+        return ids.size;
+    }
+
+    /**
+     * 이번 적재에서 저장한 slug 등록 (이미 있으면 나중 행으로 교체)
+     * @param slug
+     * @param value 새 ID
+     */
+    void putSlug(String slug, long value) {
+        idsBySlugHash.put(slugHash(slug), value, true);
+    }
+
+    /**
+     * @param slug
+     * @return 이번 적재에서 같은 해시의 slug를 저장한 적이 없으면 {@link #MISSING}
+     *         (해시 충돌이면 다른 slug의 ID일 수 있으므로 호출하는 쪽에서 slug 확인)
+     */
+    long getBySlug(String slug) {
+        return idsBySlugHash.get(slugHash(slug));
+    }
+
+    /**
+     * 64비트 FNV-1a 해시를 양수로 (0은 빈 칸 표시이므로 1로 대체)
+     */
+    private static long slugHash(String slug) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < slug.length(); i++) {
+            hash ^= slug.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash &= Long.MAX_VALUE;
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static int hash(long key) {
+        // 연속된 ID도 고르게 퍼지도록 섞음 (murmur3 finalizer)
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    /**
+     * 0보다 큰 long 키 -> long 값 (open addressing, 선형 탐사)
+     */
+    private static final class LongTable {
+
+        private long[] keys;
+        private long[] values;
+        private int size;
+
+        private LongTable(int initialCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+        }
+
+        /**
+         * @return 새 키면 true, 이미 있는 키면 replace 여부에 따라 값을 바꾸고 false
+         */
+        private boolean put(long key, long value, boolean replace) {
+            if (size + 1 > keys.length * LOAD_FACTOR) {
+                resize();
+            }
+
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    if (replace) values[slot] = value;
+                    return false;
+                }
+                if (keys[slot] == EMPTY) {
+                    keys[slot] = key;
+                    values[slot] = value;
+                    size++;
+                    return true;
+                }
+            }
+        }
+
+        private long get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) return values[slot];
+                if (keys[slot] == EMPTY) return MISSING;
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[oldKeys.length << 1];
+            values = new long[oldValues.length << 1];
+            size = 0;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) put(oldKeys[i], oldValues[i], false);
+            }
+        }
+    }
+}
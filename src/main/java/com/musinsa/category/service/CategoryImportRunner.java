@@ -0,0 +1,33 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.config.CategoryProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * category.ndjson-import.file 지정 시 애플리케이션 시작 시 로컬 NDJSON 파일 적재
+ * 예) java -jar app.jar --category.ndjson-import.file=/data/categories.ndjson
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "category.ndjson-import", name = "file")
+public class CategoryImportRunner implements ApplicationRunner {
+
+    private final CategoryImportService categoryImportService;
+    private final CategoryProperties categoryProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(Path.of(categoryProperties.getNdjsonImport().getFile()))) {
+            categoryImportService.importCategories(inputStream);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryImportLine;
+import com.musinsa.category.dto.response.CategoryImportResponse;
+import com.musinsa.category.exception.InvalidImportException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryImportService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryProperties categoryProperties;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON 카테고리 적재
+     * 한 행씩 읽어 batch-size 단위로 저장 후 flush/clear 하므로 메모리에는 현재 묶음과 ID/slug 매핑만 유지
+     * 전체가 하나의 트랜잭션이므로 중간에 실패하면 모두 롤백
+     * @param inputStream 한 줄에 카테고리 하나씩 (부모가 자식보다 먼저)
+     * @return
+     */
+    @Transactional
+    public CategoryImportResponse importCategories(InputStream inputStream) {
+        long startedAt = System.nanoTime();
+        int batchSize = categoryProperties.getNdjsonImport().getBatchSize();
+        CategoryIdMapping idMapping = new CategoryIdMapping();
+        List<CategoryImportLine> chunk = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        long imported = 0;
+
+        try (MappingIterator<CategoryImportLine> lines = objectMapper.readerFor(CategoryImportLine.class).readValues(inputStream)) {
+            for (CategoryImportLine line; (line = readLine(lines, lineNumber + 1)) != null; ) {
+                lineNumber++;
+                chunk.add(line);
+                if (chunk.size() == batchSize) {
+                    imported += importChunk(chunk, lineNumber - chunk.size() + 1, idMapping);
+                    chunk.clear();
+                    log.info("category import progress: {} rows ({} rows/s)",
+                            imported, CategoryImportResponse.of(imported, System.nanoTime() - startedAt).getRowsPerSecond());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, lineNumber - chunk.size() + 1, idMapping);
+        }
+
+        if (imported > 0) {
+            eventPublisher.publishEvent(CategoryChangedEvent.bulk());
+        }
+
+        CategoryImportResponse response = CategoryImportResponse.of(imported, System.nanoTime() - startedAt);
+        log.info("category import finished: {} rows in {} ms ({} rows/s)",
+                response.getImportedCount(), response.getElapsedMillis(), response.getRowsPerSecond());
+        return response;
+    }
+
+    private CategoryImportLine readLine(MappingIterator<CategoryImportLine> lines, long lineNumber) {
+        try {
+            return lines.hasNextValue() ? lines.nextValue() : null;
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException(lineNumber, "JSON 형식이 올바르지 않습니다.");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 한 묶음 저장
+     * 1. 이전 묶음에서 저장된 부모와 slug로 참조한 부모를 한번에 조회
+     * 2. 순서대로 저장하며 ID 매핑 등록
+     * 3. flush 후 관계 테이블 반영, 영속성 컨텍스트 비우기
+     * @param chunk
+     * @param firstLineNumber
+     * @param idMapping
+     * @return 저장한 건수
+     */
+    private int importChunk(List<CategoryImportLine> chunk, long firstLineNumber, CategoryIdMapping idMapping) {
+        Map<Long, Category> loadedById = new HashMap<>();
+        Map<String, List<Category>> existingBySlug = new HashMap<>();
+        loadParents(chunk, idMapping, loadedById, existingBySlug);
+
+        Map<Long, Category> chunkById = new HashMap<>();
+        List<Category> created = new ArrayList<>(chunk.size());
+
+        long lineNumber = firstLineNumber;
+        for (CategoryImportLine line : chunk) {
+            validate(line, lineNumber);
+            Category parent = findParent(line, lineNumber, idMapping, chunkById, loadedById, existingBySlug);
+
+            Category category = Category.builder()
+                    .name(line.getName())
+                    .slug(line.getSlug())
+                    .parentId(parent == null ? null : parent.getId())
+                    .ancestorId(parent == null ? null : parent.getRootId())
+                    .sortOrder(line.getOrder())
+                    .build();
+            entityManager.persist(category);
+            category.assignPath(parent);
+
+            if (line.getId() != null && !idMapping.putIfAbsent(line.getId(), category.getId())) {
+                throw new InvalidImportException(lineNumber, String.format("id가 중복되었습니다. (id: %d)", line.getId()));
+            }
+            idMapping.putSlug(category.getSlug(), category.getId());
+            chunkById.put(category.getId(), category);
+            created.add(category);
+            lineNumber++;
+        }
+
+        entityManager.flush();
+        if (categoryProperties.getClosureTable().isEnabled()) {
+            categoryClosureRepository.insertForNewCategories(created);
+        }
+        entityManager.clear();
+        return created.size();
+    }
+
+    private void validate(CategoryImportLine line, long lineNumber) {
+        if (!StringUtils.hasText(line.getName()) || !StringUtils.hasText(line.getSlug())) {
+            throw new InvalidImportException(lineNumber, "카테고리 이름과 slug는 필수입니다.");
+        }
+        if (line.getId() != null && line.getId() <= 0) {
+            throw new InvalidImportException(lineNumber, "id는 0보다 커야 합니다.");
+        }
+        if (line.getParentId() != null && line.getParentSlug() != null) {
+            throw new InvalidImportException(lineNumber, "parentId와 parentSlug는 함께 사용할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 이전 묶음에서 저장된 부모(ID/slug 매핑)와 slug로 참조한 기존 카테고리를 묶음당 1회씩 조회
+     * 이번 적재에서 저장한 적이 없는 slug만 기존 카테고리에서 찾음
+     */
+    private void loadParents(List<CategoryImportLine> chunk, CategoryIdMapping idMapping,
+                             Map<Long, Category> loadedById, Map<String, List<Category>> existingBySlug) {
+        Set<Long> parentIds = new HashSet<>();
+        Set<String> existingSlugs = new HashSet<>();
+        for (CategoryImportLine line : chunk) {
+            if (line.getParentId() != null) {
+                long parentId = idMapping.get(line.getParentId());
+                if (parentId != CategoryIdMapping.MISSING) parentIds.add(parentId);
+            }
+            if (line.getParentSlug() != null) {
+                long parentId = idMapping.getBySlug(line.getParentSlug());
+                if (parentId != CategoryIdMapping.MISSING) parentIds.add(parentId);
+                else existingSlugs.add(line.getParentSlug());
+            }
+        }
+
+        if (!parentIds.isEmpty()) {
+            categoryRepository.findAllById(parentIds).forEach(category -> loadedById.put(category.getId(), category));
+        }
+        if (!existingSlugs.isEmpty()) {
+            categoryRepository.findAllBySlugIn(existingSlugs)
+                    .forEach(category -> existingBySlug.computeIfAbsent(category.getSlug(), key -> new ArrayList<>()).add(category));
+        }
+    }
+
+    /**
+     * parentSlug는 묶음 경계와 무관하게 이번 적재에서 가장 최근에 저장한 같은 slug를 우선하고,
+     * 없으면 기존 카테고리 중 하나뿐일 때만 사용 (여러 개면 어느 부모인지 정할 수 없으므로 거부)
+     * slug 매핑은 해시만 보관하므로 찾은 카테고리의 slug가 다르면(해시 충돌) 기존 카테고리에서 다시 찾음
+     */
+    private Category findParent(CategoryImportLine line, long lineNumber, CategoryIdMapping idMapping,
+                                Map<Long, Category> chunkById, Map<Long, Category> loadedById,
+                                Map<String, List<Category>> existingBySlug) {
+        if (line.getParentId() != null) {
+            long parentId = idMapping.get(line.getParentId());
+            Category parent = chunkById.containsKey(parentId) ? chunkById.get(parentId) : loadedById.get(parentId);
+            if (parent == null) {
+                throw new InvalidImportException(lineNumber,
+                        String.format("앞서 나오지 않은 parentId입니다. (parentId: %d)", line.getParentId()));
+            }
+            return parent;
+        }
+
+        if (line.getParentSlug() != null) {
+            long parentId = idMapping.getBySlug(line.getParentSlug());
+            if (parentId != CategoryIdMapping.MISSING) {
+                Category parent = chunkById.containsKey(parentId) ? chunkById.get(parentId) : loadedById.get(parentId);
+                if (parent != null && parent.getSlug().equals(line.getParentSlug())) return parent;
+            }
+
+            // 묶음을 시작할 때 조회하지 않은 slug(해시 충돌)는 여기서 조회 (이번 묶음의 저장분은 조회 전에 자동 flush)
+            List<Category> candidates = existingBySlug.computeIfAbsent(line.getParentSlug(),
+                    slug -> categoryRepository.findAllBySlugIn(List.of(slug)));
+            if (candidates.isEmpty()) {
+                throw new InvalidImportException(lineNumber,
+                        String.format("존재하지 않는 parentSlug입니다. (parentSlug: %s)", line.getParentSlug()));
+            }
+            if (candidates.size() > 1) {
+                throw new InvalidImportException(lineNumber,
+                        String.format("같은 slug의 카테고리가 여러 개라 parentSlug를 특정할 수 없습니다. (parentSlug: %s)", line.getParentSlug()));
+            }
+            return candidates.get(0);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,166 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 카테고리 목록을 배열로 표현한 트리 (위치 = (sort_order, id)로 한 번 정렬한 순서, 스냅샷/keyset 조회와 같은 형제 순서)
+ * 부모/첫 자식/다음 형제를 int 배열로 연결하므로 노드별 Map 엔트리나 박싱 없이 순회 가능
+ * 부모가 목록에 없는 카테고리는 루트로 취급
+ */
+final class CategoryTreeArrays {
+
+    static final int NONE = -1;
+
+    private final Category[] categories;
+    private final int[] parentIndexes;
+    private final int[] firstChildIndexes;
+    private final int[] nextSiblingIndexes;
+    private final int firstRootIndex;
+    // ID 조회용 (ID 오름차순 정렬, 같은 위치끼리 대응)
+    private final long[] sortedIds;
+    private final int[] indexesBySortedId;
+
+    private CategoryTreeArrays(Category[] categories, int[] parentIndexes, int[] firstChildIndexes,
+                               int[] nextSiblingIndexes, int firstRootIndex, long[] sortedIds, int[] indexesBySortedId) {
+        this.categories = categories;
+        this.parentIndexes = parentIndexes;
+        this.firstChildIndexes = firstChildIndexes;
+        this.nextSiblingIndexes = nextSiblingIndexes;
+        this.firstRootIndex = firstRootIndex;
+        this.sortedIds = sortedIds;
+        this.indexesBySortedId = indexesBySortedId;
+    }
+
+    static CategoryTreeArrays of(List<Category> categories) {
+        int size = categories.size();
+
+        // 1. ID 오름차순 배열과 입력 위치 (ID 순위 -> 입력 위치)
+        long[] sortedIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = categories.get(i).getId();
+        }
+        Arrays.sort(sortedIds);
+        int[] inputIndexesBySortedId = new int[size];
+        long[] sortKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            Category category = categories.get(i);
+            int rank = Arrays.binarySearch(sortedIds, category.getId());
+            inputIndexesBySortedId[rank] = i;
+            // 2. (sort_order, ID 순위)를 long 하나로 묶어 기본형 정렬 (같은 순서면 ID 순, 입력 순서와 무관)
+            sortKeys[i] = ((long) category.getSortOrder() << 32) | rank;
+        }
+        Arrays.sort(sortKeys);
+
+        // 3. ID 정렬 배열의 이진 탐색으로 부모 위치 (해시 테이블보다 노드당 메모리가 작음)
+        Category[] sorted = new Category[size];
+        int[] indexesBySortedId = new int[size];
+        for (int index = 0; index < size; index++) {
+            int rank = (int) sortKeys[index];
+            sorted[index] = categories.get(inputIndexesBySortedId[rank]);
+            indexesBySortedId[rank] = index;
+        }
+        int[] parentIndexes = new int[size];
+        for (int index = 0; index < size; index++) {
+            Long parentId = sorted[index].getParentId();
+            parentIndexes[index] = parentId == null ? NONE : indexOf(sortedIds, indexesBySortedId, parentId);
+        }
+
+        // 4. 뒤에서부터 앞에 끼워 넣어 형제 목록이 정렬 순서를 유지하도록 연결
+        int[] firstChildIndexes = new int[size];
+        int[] nextSiblingIndexes = new int[size];
+        Arrays.fill(firstChildIndexes, NONE);
+        int firstRootIndex = NONE;
+        for (int index = size - 1; index >= 0; index--) {
+            int parentIndex = parentIndexes[index];
+            if (parentIndex == NONE) {
+                nextSiblingIndexes[index] = firstRootIndex;
+                firstRootIndex = index;
+            } else {
+                nextSiblingIndexes[index] = firstChildIndexes[parentIndex];
+                firstChildIndexes[parentIndex] = index;
+            }
+        }
+
+        return new CategoryTreeArrays(sorted, parentIndexes, firstChildIndexes, nextSiblingIndexes, firstRootIndex,
+                sortedIds, indexesBySortedId);
+    }
+
+    private static int indexOf(long[] sortedIds, int[] indexesBySortedId, long id) {
+        int position = Arrays.binarySearch(sortedIds, id);
+        return position < 0 ? NONE : indexesBySortedId[position];
+    }
+
+    int size() {
+        return categories.length;
+    }
+
+    Category category(int index) {
+        return categories[index];
+    }
+
+    int parent(int index) {
+        return parentIndexes[index];
+    }
+
+    int firstRoot() {
+        return firstRootIndex;
+    }
+
+    int firstChild(int index) {
+        return firstChildIndexes[index];
+    }
+
+    int nextSibling(int index) {
+        return nextSiblingIndexes[index];
+    }
+
+    /**
+     * @param id
+     * @return 목록에 없으면 {@link #NONE}
+     */
+    int indexOf(long id) {
+        return indexOf(sortedIds, indexesBySortedId, id);
+    }
+
+    /**
+     * 루트 카테고리들의 응답 트리
+     * @return
+     */
+    List<CategoryTreeResponse> toRoots() {
+        CategoryTreeResponse[] responses = toResponses();
+        List<CategoryTreeResponse> roots = new ArrayList<>();
+        for (int index = firstRootIndex; index != NONE; index = nextSiblingIndexes[index]) {
+            roots.add(responses[index]);
+        }
+        return roots;
+    }
+
+    /**
+     * 특정 카테고리의 응답 트리
+     * @param index
+     * @return
+     */
+    CategoryTreeResponse toResponse(int index) {
+        return toResponses()[index];
+    }
+
+    /**
+     * 정렬 순서대로 자식을 연결하므로 따로 정렬하지 않음
+     * @return
+     */
+    private CategoryTreeResponse[] toResponses() {
+        CategoryTreeResponse[] responses = new CategoryTreeResponse[categories.length];
+        for (int index = 0; index < categories.length; index++) {
+            responses[index] = CategoryTreeResponse.from(categories[index]);
+        }
+        for (int index = 0; index < categories.length; index++) {
+            if (parentIndexes[index] != NONE) responses[parentIndexes[index]].addChild(responses[index]);
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,186 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.cache.CategoryTreeCache;
+import com.musinsa.category.cache.CategoryTreeSnapshot;
+import com.musinsa.category.cache.SerializedCategoryTree;
+import com.musinsa.category.cache.SerializedCategoryTree.Fragment;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import com.musinsa.category.metrics.CategoryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전체 카테고리 트리를 JSON 바이트로 직렬화하여 제공
+ * 트리 캐시 사용 시 스냅샷 버전이 바뀔 때만 다시 직렬화하고, 하위 트리 해시가 그대로인 최상위 가지는 이전 결과를 재사용
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeJsonService {
+
+    private static final int MAX_MEMOIZED_DEPTH = 8;
+    private static final Fragment DATA_START = Fragment.of("{\"data\":[".getBytes(StandardCharsets.UTF_8));
+    private static final Fragment DATA_SEPARATOR = Fragment.of(",".getBytes(StandardCharsets.UTF_8));
+    private static final Fragment DATA_END = Fragment.of("]}".getBytes(StandardCharsets.UTF_8));
+
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryFetchingService categoryFetchingService;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private volatile SerializedCategoryTree serialized;
+    // 최상위 카테고리의 하위 트리 해시 -> 직렬화/압축된 조각 (현재 버전의 최상위 카테고리만 유지)
+    private Map<String, Fragment> rootFragments = Map.of();
+    private final Map<Integer, SerializedCategoryTree> serializedByDepth = new ConcurrentHashMap<>();
+
+    public SerializedCategoryTree getAllCategories() {
+        // 트리 캐시를 사용하지 않으면 매번 조회 후 응답 객체 없이 직렬화 (ETag 비교만 가능)
+        if (!categoryTreeCache.isEnabled()) {
+            CategoryTreeArrays tree = CategoryTreeArrays.of(categoryRepository.findAllByIsActiveTrueOrderBySortOrderAsc());
+            return new SerializedCategoryTree(0L, serialize(tree));
+        }
+
+        CategoryTreeSnapshot snapshot = categoryTreeCache.getSnapshot();
+        SerializedCategoryTree current = serialized;
+        if (current != null && current.getVersion() == snapshot.getVersion()) return current;
+
+        synchronized (this) {
+            snapshot = categoryTreeCache.getSnapshot();
+            current = serialized;
+            if (current != null && current.getVersion() == snapshot.getVersion()) return current;
+
+            SerializedCategoryTree refreshed = serializeRoots(snapshot);
+            this.serialized = refreshed;
+            return refreshed;
+        }
+    }
+
+    /**
+     * 최상위부터 depth 단계까지만 포함한 트리 JSON
+     * 메가 메뉴처럼 자주 쓰이는 얕은 depth는 스냅샷 버전별로 직렬화 결과를 재사용
+     * @param depth
+     * @return
+     */
+    public SerializedCategoryTree getAllCategories(int depth) {
+        if (!categoryTreeCache.isEnabled() || depth >= MAX_MEMOIZED_DEPTH) {
+            return new SerializedCategoryTree(0L, serialize(categoryFetchingService.getAllCategories(depth)));
+        }
+
+        long version = categoryTreeCache.getSnapshot().getVersion();
+        SerializedCategoryTree current = serializedByDepth.get(depth);
+        if (current != null && current.getVersion() == version) return current;
+
+        // 동시에 갱신되어도 같은 스냅샷이면 결과가 같으므로 락 없이 덮어씀
+        SerializedCategoryTree refreshed = new SerializedCategoryTree(
+                version, serialize(categoryFetchingService.getAllCategories(depth)));
+        serializedByDepth.put(depth, refreshed);
+        return refreshed;
+    }
+
+    /**
+     * PagingResponse.of(roots)와 같은 JSON을 최상위 카테고리별 조각으로 이어 붙여 생성
+     * 스냅샷 부분 갱신 시 바뀐 가지 외에는 하위 트리 해시가 그대로이므로 바뀐 최상위 카테고리만 직렬화/압축
+     * @param snapshot
+     * @return
+     */
+    private SerializedCategoryTree serializeRoots(CategoryTreeSnapshot snapshot) {
+        return serializeTimer().record(() -> {
+            Map<String, Fragment> previous = rootFragments;
+            Map<String, Fragment> current = new HashMap<>(snapshot.getRoots().size() * 2);
+            List<Fragment> fragments = new ArrayList<>(snapshot.getRoots().size() * 2 + 1);
+            fragments.add(DATA_START);
+            for (CategoryTreeResponse root : snapshot.getRoots()) {
+                if (!current.isEmpty()) fragments.add(DATA_SEPARATOR);
+                Fragment fragment = previous.get(root.getSubtreeHash());
+                if (fragment == null) fragment = Fragment.of(toJson(root));
+                current.put(root.getSubtreeHash(), fragment);
+                fragments.add(fragment);
+            }
+            fragments.add(DATA_END);
+            this.rootFragments = current;
+            return SerializedCategoryTree.of(snapshot.getVersion(), fragments);
+        });
+    }
+
+    /**
+     * 배열 기반 트리를 응답 객체 없이 전위 순회하며 기록 (PagingResponse&lt;CategoryTreeResponse&gt;와 같은 형태)
+     * 자식이 없으면 다음 형제로, 형제도 없으면 부모 포인터로 올라가므로 재귀/스택이 필요 없음
+     * @param tree
+     * @return
+     */
+    private byte[] serialize(CategoryTreeArrays tree) {
+        return serializeTimer().record(() -> write(tree));
+    }
+
+    private byte[] write(CategoryTreeArrays tree) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (int index = tree.firstRoot(); index != CategoryTreeArrays.NONE; ) {
+                Category category = tree.category(index);
+                generator.writeStartObject();
+                generator.writeNumberField("id", category.getId());
+                generator.writeStringField("name", category.getName());
+                generator.writeStringField("slug", category.getSlug());
+                generator.writeNumberField("order", category.getSortOrder());
+                generator.writeArrayFieldStart("children");
+
+                int child = tree.firstChild(index);
+                if (child != CategoryTreeArrays.NONE) {
+                    index = child;
+                    continue;
+                }
+                // 다음 형제가 있는 조상까지 올라가며 닫음
+                for (; index != CategoryTreeArrays.NONE; index = tree.parent(index)) {
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                    if (tree.nextSibling(index) != CategoryTreeArrays.NONE) {
+                        index = tree.nextSibling(index);
+                        break;
+                    }
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private byte[] serialize(Object value) {
+        return serializeTimer().record(() -> toJson(value));
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Timer serializeTimer() {
+        return Timer.builder(CategoryMetrics.TREE_SERIALIZE)
+                .description("전체 트리 JSON 직렬화 시간")
+                .register(meterRegistry);
+    }
+}
@@ -1,21 +1,45 @@
 package com.musinsa.category.service;
 
+import com.musinsa.category.config.CategoryProperties;
 import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
 import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryMoveRequest;
 import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.response.CategoryActivationResponse;
 import com.musinsa.category.dto.response.CategoryResponse;
+import com.musinsa.category.dto.response.PagingResponse;
 import com.musinsa.category.exception.CategoryCannotDeleteException;
 import com.musinsa.category.exception.CategoryNotFoundException;
+import com.musinsa.category.exception.CategoryPathMissingException;
+import com.musinsa.category.exception.CategoryVersionMismatchException;
+import com.musinsa.category.exception.InvalidCategoryMoveException;
+import com.musinsa.category.exception.InvalidCategoryOrderException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryUpdatingService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryProperties categoryProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 추가
@@ -24,42 +48,273 @@ public class CategoryUpdatingService {
      */
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
-        Long ancestorId = getAncestorId(request.getParentId());
+        Category parent = findParent(request.getParentId());
         Category category = Category.builder()
                 .name(request.getName())
                 .slug(request.getSlug())
                 .parentId(request.getParentId())
-                .ancestorId(ancestorId)
+                .ancestorId(getAncestorId(parent))
                 .sortOrder(request.getOrder())
                 .build();
         Category savedCategory = categoryRepository.save(category);
+        // 경로는 ID가 필요하므로 저장 이후 지정 (커밋 시 반영)
+        savedCategory.assignPath(parent);
+        if (isClosureTableEnabled()) {
+            categoryClosureRepository.insertForNewCategory(savedCategory.getId(), request.getParentId());
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.created(savedCategory.getId(), savedCategory.getParentId()));
         return CategoryResponse.from(savedCategory);
     }
 
     /**
      * 카테고리 수정
+     * 부모가 바뀌면 하위 카테고리의 경로와 최상위 카테고리 ID도 한번의 UPDATE로 함께 변경
+     * 자기 자신이나 하위 카테고리를 부모로 지정하면 순환이 생기므로 거부
      * @param id
      * @param request
      * @return
      */
     @Transactional
     public CategoryResponse updateCategory(Long id, CategoryRequest request) {
+        return updateCategory(id, request, null);
+    }
+
+    /**
+     * 카테고리 수정 (낙관적 잠금)
+     * 조회한 버전이 expectedVersion과 다르면 거부하고, 확인 이후 커밋 전에 다른 트랜잭션이 먼저 수정하면 @Version 조건 UPDATE가 실패
+     * @param id
+     * @param request
+     * @param expectedVersion If-Match로 전달된 버전 (null이면 확인하지 않음)
+     * @return 수정 이후 버전을 담기 위해 flush한 결과
+     */
+    @Transactional
+    public CategoryResponse updateCategory(Long id, CategoryRequest request, Long expectedVersion) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(CategoryNotFoundException::new);
-        Long ancestorId = getAncestorId(request.getParentId());
-        category.update(request.getName(), request.getSlug(), request.getParentId(), ancestorId, request.getOrder());
+        checkVersion(category, expectedVersion);
+        Category parent = findParent(request.getParentId());
+        validateMove(category, parent);
+        Long oldParentId = category.getParentId();
+        String oldPath = category.getPath();
+        category.update(request.getName(), request.getSlug(), request.getParentId(), getAncestorId(parent), request.getOrder());
+        category.assignPath(parent);
+
+        moveSubtree(category, oldPath, oldParentId);
+        // 버전은 flush 시점에 올라가므로 응답 전에 flush (UPDATE 수는 같음)
+        categoryRepository.flush();
+        publishUpdatedOrMoved(category, oldParentId);
         return CategoryResponse.from(category);
     }
 
-    private Long getAncestorId(Long parentId) {
+    /**
+     * 카테고리를 하위 트리째 다른 부모 아래로 이동
+     * 하위 카테고리를 하나씩 읽지 않고 경로/최상위 카테고리 ID는 UPDATE 1회, closure table은 끊기/연결 2회로 갱신
+     * @param id
+     * @param request 정렬순서가 없으면 기존 정렬순서 유지
+     * @return
+     */
+    @Transactional
+    public CategoryResponse moveCategory(Long id, CategoryMoveRequest request) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(CategoryNotFoundException::new);
+        Category parent = findParent(request.getParentId());
+        validateMove(category, parent);
+
+        Long oldParentId = category.getParentId();
+        String oldPath = category.getPath();
+        Integer sortOrder = request.getOrder() == null ? category.getSortOrder() : request.getOrder();
+        category.move(request.getParentId(), getAncestorId(parent), sortOrder);
+        category.assignPath(parent);
+
+        moveSubtree(category, oldPath, oldParentId);
+        categoryRepository.flush();
+        publishUpdatedOrMoved(category, oldParentId);
+        return CategoryResponse.from(category);
+    }
+
+    /**
+     * If-Match로 전달된 버전이 현재 버전과 다르면 다른 요청이 먼저 변경한 것이므로 거부
+     * @param category
+     * @param expectedVersion null이면 확인하지 않음
+     */
+    private void checkVersion(Category category, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(category.getVersion())) {
+            throw new CategoryVersionMismatchException(category.getId(), expectedVersion, category.getVersion());
+        }
+    }
+
+    /**
+     * 자기 자신이나 자신의 하위 카테고리 아래로는 이동 불가 (순환 참조)
+     * 새 부모의 조상 체인에 자신이 있는지를 부모를 하나씩 조회하며 올라가지 않고 확인
+     * - 경로가 있으면 이미 조회한 새 부모의 경로(조상 체인)에 자신의 경로가 포함되는지로 판단 (추가 조회 없음)
+     * - 경로가 채워지지 않은 데이터는 새 부모의 조상 체인을 재귀 CTE 1회로 확인
+     * @param category
+     * @param parent
+     */
+    private void validateMove(Category category, Category parent) {
+        if (parent == null || Objects.equals(parent.getId(), category.getParentId())) {
+            return;
+        }
+        boolean intoSelfOrDescendant = parent.getId().equals(category.getId())
+                || (category.getPath() != null && parent.getPath() != null
+                        ? parent.getPath().startsWith(category.getPath())
+                        : categoryRepository.existsInAncestorChain(parent.getId(), category.getId()));
+        if (intoSelfOrDescendant) {
+            throw new InvalidCategoryMoveException(category.getId(), parent.getId());
+        }
+    }
+
+    /**
+     * 부모가 바뀐 경우 하위 트리 전체를 집합 연산으로 갱신
+     * 경로가 바뀌면 하위 카테고리의 경로 접두어와 최상위 카테고리 ID를 UPDATE 1회로 변경
+     * @param category 부모/경로를 변경한 카테고리
+     * @param oldPath
+     * @param oldParentId
+     */
+    private void moveSubtree(Category category, String oldPath, Long oldParentId) {
+        String newPath = category.getPath();
+        if (oldPath != null && newPath != null && !oldPath.equals(newPath)) {
+            categoryRepository.moveSubtree(oldPath, newPath, category.getRootId());
+        }
+        if (isClosureTableEnabled() && !Objects.equals(oldParentId, category.getParentId())) {
+            moveClosureSubtree(category.getId(), category.getParentId());
+        }
+    }
+
+    private void publishUpdatedOrMoved(Category category, Long oldParentId) {
+        eventPublisher.publishEvent(Objects.equals(oldParentId, category.getParentId())
+                ? CategoryChangedEvent.updated(category.getId(), oldParentId)
+                : CategoryChangedEvent.moved(category.getId(), oldParentId, category.getParentId()));
+    }
+
+    /**
+     * closure table에서 하위 트리를 기존 조상과 끊고 새 부모의 조상과 연결 (행 단위가 아닌 집합 연산 2회)
+     * @param id
+     * @param newParentId
+     */
+    private void moveClosureSubtree(Long id, Long newParentId) {
+        categoryClosureRepository.detachSubtree(id);
+        if (newParentId != null) {
+            categoryClosureRepository.attachSubtree(id, newParentId);
+        }
+    }
+
+    private boolean isClosureTableEnabled() {
+        return categoryProperties.getClosureTable().isEnabled();
+    }
+
+    private Category findParent(Long parentId) {
         if (parentId == null) {
             return null;
         }
 
-        Category parent = categoryRepository.findById(parentId)
+        return categoryRepository.findById(parentId)
                 .orElseThrow(() -> new CategoryNotFoundException(parentId));
+    }
 
-        return parent.getAncestorId() != null ? parent.getAncestorId() : parent.getId();
+    private Long getAncestorId(Category parent) {
+        if (parent == null) {
+            return null;
+        }
+
+        return parent.getRootId();
+    }
+
+    /**
+     * 직계 하위 카테고리 정렬순서 일괄 변경
+     * 전달한 순서대로 정렬순서를 1부터 다시 매기고, 바뀐 카테고리만 flush 1회(JDBC 배치 UPDATE 1건)로 반영
+     * 여러 카테고리가 한번에 바뀌므로 BULK 이벤트 1건으로 트리 캐시를 한번만 재적재
+     * @param parentId
+     * @param orderedIds 현재 활성 직계 하위 카테고리 ID 전체 (누락/중복/다른 카테고리 불가)
+     * @return 새 정렬순서의 하위 카테고리 목록
+     */
+    @Transactional
+    public PagingResponse<CategoryResponse> reorderChildren(Long parentId, List<Long> orderedIds) {
+        findParent(parentId);
+        List<Category> children = categoryRepository.findAllByParentIdAndIsActiveTrueOrderBySortOrderAscIdAsc(parentId);
+        Map<Long, Category> childrenById = children.stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        validateOrder(childrenById, orderedIds);
+
+        List<Category> reordered = new ArrayList<>(orderedIds.size());
+        boolean changed = false;
+        for (int i = 0; i < orderedIds.size(); i++) {
+            Category child = childrenById.get(orderedIds.get(i));
+            int sortOrder = i + 1;
+            if (child.getSortOrder() != sortOrder) {
+                child.changeSortOrder(sortOrder);
+                changed = true;
+            }
+            reordered.add(child);
+        }
+        if (changed) {
+            // 버전은 flush 시점에 올라가므로 응답 전에 flush
+            categoryRepository.flush();
+            eventPublisher.publishEvent(CategoryChangedEvent.bulk());
+        }
+        return PagingResponse.of(reordered.stream().map(CategoryResponse::from).toList());
+    }
+
+    private void validateOrder(Map<Long, Category> childrenById, List<Long> orderedIds) {
+        Set<Long> requested = new HashSet<>(orderedIds);
+        if (requested.size() != orderedIds.size()) {
+            throw new InvalidCategoryOrderException("중복된 ID가 있습니다.");
+        }
+        if (!requested.equals(childrenById.keySet())) {
+            Set<Long> missing = new TreeSet<>(childrenById.keySet());
+            missing.removeAll(requested);
+            Set<Long> unknown = new TreeSet<>(requested);
+            unknown.removeAll(childrenById.keySet());
+            throw new InvalidCategoryOrderException(String.format("누락: %s, 하위 카테고리가 아님: %s", missing, unknown));
+        }
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 비활성 (조회 API에서 제외)
+     * @param id
+     * @return
+     */
+    @Transactional
+    public CategoryActivationResponse deactivateCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(CategoryNotFoundException::new);
+        return CategoryActivationResponse.of(id, false, changeSubtreeActive(category, false));
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 활성
+     * 상위 카테고리가 비활성이어도 활성하며 (조회 API에서 최상위로 노출), 응답의 parentActive로 알림
+     * @param id
+     * @return
+     */
+    @Transactional
+    public CategoryActivationResponse activateCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(CategoryNotFoundException::new);
+        boolean parentActive = !category.hasParent() || categoryRepository.findById(category.getParentId())
+                .map(Category::getIsActive)
+                .orElse(false);
+        int affectedCount = changeSubtreeActive(category, true);
+        return CategoryActivationResponse.of(id, true, affectedCount, parentActive);
+    }
+
+    /**
+     * 하위 트리 전체의 활성 여부를 경로 기준 UPDATE 1회로 변경
+     * 여러 카테고리가 한번에 바뀌므로 카테고리별 이벤트 대신 BULK 이벤트 1건으로 트리 캐시를 한번만 재적재
+     * 경로가 없으면 UPDATE가 아무 행도 찾지 못하므로 성공으로 응답하지 않도록 거부
+     * @param category
+     * @param active
+     * @return 상태가 바뀐 카테고리 수
+     */
+    private int changeSubtreeActive(Category category, boolean active) {
+        if (category.getPath() == null) {
+            throw new CategoryPathMissingException(category.getId());
+        }
+        int affectedCount = categoryRepository.updateSubtreeActive(category.getPath(), active);
+        if (affectedCount > 0) {
+            eventPublisher.publishEvent(CategoryChangedEvent.bulk());
+        }
+        return affectedCount;
     }
 
     /**
@@ -69,14 +324,30 @@ public class CategoryUpdatingService {
      */
     @Transactional
     public boolean deleteCategory(Long id) {
-        if (!categoryRepository.existsById(id)) {
-            throw new CategoryNotFoundException();
-        }
+        return deleteCategory(id, null);
+    }
+
+    /**
+     * 카테고리 삭제 (낙관적 잠금, soft delete UPDATE에 버전 조건 포함)
+     * @param id
+     * @param expectedVersion If-Match로 전달된 버전 (null이면 확인하지 않음)
+     * @return
+     */
+    @Transactional
+    public boolean deleteCategory(Long id, Long expectedVersion) {
+        // 이벤트에 부모 ID를 담기 위해 엔티티로 조회 (deleteById는 영속성 컨텍스트에서 다시 찾으므로 추가 조회 없음)
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(CategoryNotFoundException::new);
+        checkVersion(category, expectedVersion);
         if (categoryRepository.existsByParentId(id)){
             throw new CategoryCannotDeleteException("하위 카테고리가 존재하여 삭제가 불가능합니다.");
         }
 
         categoryRepository.deleteById(id);
+        if (isClosureTableEnabled()) {
+            categoryClosureRepository.deleteAllByDescendantId(id);
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(id, category.getParentId()));
         return true;
     }
 
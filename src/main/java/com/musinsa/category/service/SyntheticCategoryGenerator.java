@@ -0,0 +1,175 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
+import com.musinsa.category.domain.repository.CategoryInsertRow;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.response.CategoryImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 운영 규모의 합성 카테고리 트리 생성 (부하 테스트/벤치마크용)
+ * 엔티티를 만들지 않고 BFS 순서로 행을 만들어 JDBC 배치로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyntheticCategoryGenerator {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int NO_PARENT = -1;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryProperties categoryProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 1. 최상위 카테고리 root-count개 생성
+     * 2. 앞에서부터(BFS 순서) 카테고리마다 fanout 분포에서 뽑은 개수만큼 자식 생성 (max-depth 단계까지)
+     * 3. 더 채울 자리가 없으면 최상위 카테고리를 추가
+     * 새 카테고리의 ID는 기존 최대 ID/시퀀스 값 다음부터 연속으로 지정하고 시퀀스를 그 뒤로 재시작
+     * @param spec
+     * @return
+     */
+    @Transactional
+    public CategoryImportResponse generate(CategoryProperties.SyntheticData spec) {
+        long startedAt = System.nanoTime();
+        int size = spec.getSize();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        // 이미 JPA에 할당된 시퀀스 구간과도 겹치지 않도록 둘 중 큰 값 다음부터 사용
+        long firstId = Math.max(categoryRepository.findMaxId(), categoryRepository.nextIdSequenceValue()) + 1;
+        GeneratedTree tree = new GeneratedTree(firstId, size);
+        List<CategoryInsertRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        int rootCount = 0;
+        for (int head = 0; tree.size() < size; ) {
+            if (rootCount < spec.getRootCount() || head == tree.size()) {
+                chunk.add(tree.add(NO_PARENT, ++rootCount, drawSlugIndex(spec, random, tree)));
+            } else {
+                int parent = head++;
+                if (tree.depth(parent) + 1 < spec.getMaxDepth()) {
+                    int fanout = drawFanout(spec, random);
+                    for (int order = 1; order <= fanout && tree.size() < size; order++) {
+                        chunk.add(tree.add(parent, order, drawSlugIndex(spec, random, tree)));
+                    }
+                }
+                tree.releasePath(parent);
+            }
+
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush(chunk);
+                log.info("synthetic category progress: {} / {} rows", tree.size(), size);
+            }
+        }
+        flush(chunk);
+
+        if (size > 0) {
+            categoryRepository.restartIdSequence(tree.nextId());
+            eventPublisher.publishEvent(CategoryChangedEvent.bulk());
+        }
+
+        CategoryImportResponse response = CategoryImportResponse.of(size, System.nanoTime() - startedAt);
+        log.info("synthetic categories generated: {} rows ({} roots) in {} ms ({} rows/s)",
+                size, rootCount, response.getElapsedMillis(), response.getRowsPerSecond());
+        return response;
+    }
+
+    /**
+     * slug-collision-rate 확률로 앞서 생성된 카테고리의 slug 재사용
+     * @return slug를 가져올 카테고리 위치 (충돌이 아니면 새로 추가될 위치)
+     */
+    private int drawSlugIndex(CategoryProperties.SyntheticData spec, SplittableRandom random, GeneratedTree tree) {
+        if (tree.size() == 0 || random.nextDouble() >= spec.getSlugCollisionRate()) return tree.size();
+        return tree.slugIndex(random.nextInt(tree.size()));
+    }
+
+    private int drawFanout(CategoryProperties.SyntheticData spec, SplittableRandom random) {
+        int range = spec.getFanoutMax() - spec.getFanoutMin() + 1;
+        return switch (spec.getFanoutDistribution()) {
+            case UNIFORM -> spec.getFanoutMin() + random.nextInt(range);
+            // 0~1 균등 분포를 세제곱하여 작은 값 쪽으로 치우치게 함
+            case SKEWED -> spec.getFanoutMin() + Math.min(range - 1, (int) (range * Math.pow(random.nextDouble(), 3)));
+        };
+    }
+
+    private void flush(List<CategoryInsertRow> chunk) {
+        if (chunk.isEmpty()) return;
+        categoryRepository.insertRows(chunk);
+        if (categoryProperties.getClosureTable().isEnabled()) {
+            categoryClosureRepository.insertForNewRows(chunk);
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 생성 중인 트리 (위치 = 생성 순서, ID = firstId + 위치)
+     */
+    private static final class GeneratedTree {
+
+        private final long firstId;
+        private final int[] depths;
+        private final int[] rootIndexes;
+        // slug를 빌려온 카테고리 위치 (충돌이 아니면 자기 자신)
+        private final int[] slugIndexes;
+        // 자식을 만들 때까지만 유지 (BFS 경계만큼만 메모리 사용)
+        private final String[] paths;
+        private int size;
+
+        private GeneratedTree(long firstId, int capacity) {
+            this.firstId = firstId;
+            this.depths = new int[capacity];
+            this.rootIndexes = new int[capacity];
+            this.slugIndexes = new int[capacity];
+            this.paths = new String[capacity];
+        }
+
+        private CategoryInsertRow add(int parent, int sortOrder, int slugIndex) {
+            int index = size++;
+            long id = firstId + index;
+            depths[index] = parent == NO_PARENT ? 0 : depths[parent] + 1;
+            rootIndexes[index] = parent == NO_PARENT ? index : rootIndexes[parent];
+            slugIndexes[index] = slugIndex;
+            paths[index] = (parent == NO_PARENT ? Category.PATH_DELIMITER : paths[parent]) + id + Category.PATH_DELIMITER;
+
+            return new CategoryInsertRow(
+                    id,
+                    parent == NO_PARENT ? null : firstId + rootIndexes[index],
+                    parent == NO_PARENT ? null : firstId + parent,
+                    paths[index],
+                    "카테고리 " + id,
+                    "category-" + (firstId + slugIndex),
+                    sortOrder);
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int depth(int index) {
+            return depths[index];
+        }
+
+        private int slugIndex(int index) {
+            return slugIndexes[index];
+        }
+
+        private void releasePath(int index) {
+            paths[index] = null;
+        }
+
+        private long nextId() {
+            return firstId + size;
+        }
+    }
+}
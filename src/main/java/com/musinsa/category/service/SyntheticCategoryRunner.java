@@ -0,0 +1,26 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.config.CategoryProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * category.synthetic-data.size 지정 시 애플리케이션 시작 시 합성 카테고리 생성
+ * 예) ./gradlew bootRun --args='--category.synthetic-data.size=200000 --category.synthetic-data.max-depth=4'
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "category.synthetic-data", name = "size")
+public class SyntheticCategoryRunner implements ApplicationRunner {
+
+    private final SyntheticCategoryGenerator syntheticCategoryGenerator;
+    private final CategoryProperties categoryProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticCategoryGenerator.generate(categoryProperties.getSyntheticData());
+    }
+}
@@ -0,0 +1,24 @@
+-- 최상위부터 자기 자신까지의 ID 경로 (예: /1/7/42/)
+ALTER TABLE categories ADD COLUMN path VARCHAR(1000);
+
+COMMENT ON COLUMN categories.path IS '최상위부터 자기 자신까지의 ID 경로';
+
+-- 기존 데이터 경로 채우기 (최상위부터 재귀적으로 경로 구성)
+MERGE INTO categories c
+USING (
+    WITH RECURSIVE category_path (id, path) AS (
+        SELECT id, CAST(CONCAT('/', id, '/') AS VARCHAR(1000))
+        FROM categories
+        WHERE parent_id IS NULL
+        UNION ALL
+        SELECT child.id, CONCAT(p.path, child.id, '/')
+        FROM categories child
+        JOIN category_path p ON child.parent_id = p.id
+    )
+    SELECT id, path FROM category_path
+) backfill
+ON c.id = backfill.id
+WHEN MATCHED THEN UPDATE SET c.path = backfill.path;
+
+-- 하위 트리 조회는 path LIKE 'prefix%' 범위 조회로 처리
+CREATE INDEX idx_category_path ON categories (path);
@@ -0,0 +1,29 @@
+-- 카테고리 조상-자손 관계 (closure table, category.closure-table.enabled=true 일 때 갱신)
+CREATE TABLE category_closure (
+    ancestor_id    BIGINT NOT NULL,   -- 조상 카테고리 ID
+    descendant_id  BIGINT NOT NULL,   -- 자손 카테고리 ID
+    depth          INT NOT NULL,      -- 조상으로부터의 깊이 (자기 자신은 0)
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- 하위 트리 조회는 PK(ancestor_id, ...), 조상 조회는 아래 인덱스 사용
+CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id, depth);
+
+COMMENT ON TABLE category_closure IS '카테고리 조상-자손 관계';
+COMMENT ON COLUMN category_closure.ancestor_id IS '조상 카테고리 ID';
+COMMENT ON COLUMN category_closure.descendant_id IS '자손 카테고리 ID';
+COMMENT ON COLUMN category_closure.depth IS '조상으로부터의 깊이';
+
+-- 기존 데이터 관계 채우기
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE closure (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0
+    FROM categories
+    WHERE deleted_at IS NULL
+    UNION ALL
+    SELECT cl.ancestor_id, child.id, cl.depth + 1
+    FROM categories child
+    JOIN closure cl ON child.parent_id = cl.descendant_id
+    WHERE child.deleted_at IS NULL
+)
+SELECT ancestor_id, descendant_id, depth FROM closure;
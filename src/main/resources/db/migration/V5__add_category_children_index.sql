@@ -0,0 +1,2 @@
+-- 직계 하위 카테고리 keyset 페이징용 복합 인덱스 (parent_id = ? ORDER BY sort_order, id)
+CREATE INDEX idx_category_parent_sort ON categories (parent_id, sort_order, id);
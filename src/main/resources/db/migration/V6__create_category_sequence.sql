@@ -0,0 +1,4 @@
+-- 카테고리 ID를 IDENTITY 대신 pooled 시퀀스로 할당 (INSERT JDBC 배치 가능)
+-- increment는 엔티티의 allocationSize(50)와 같아야 함
+CREATE SEQUENCE categories_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE categories_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM categories);
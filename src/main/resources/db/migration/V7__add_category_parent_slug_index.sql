@@ -0,0 +1,2 @@
+-- URL 경로 조회용 복합 인덱스 (parent_id = ? AND slug = ?), 트리 캐시를 사용하지 않을 때 단계별 조회에 사용
+CREATE INDEX idx_category_parent_slug ON categories (parent_id, slug);
@@ -0,0 +1,19 @@
+-- 여러 인스턴스의 트리 캐시 동기화 (category.tree-sync.enabled=true 일 때 갱신)
+CREATE TABLE category_tree_version (
+    id       BIGINT PRIMARY KEY,   -- 항상 1 (단일 행)
+    version  BIGINT NOT NULL       -- 쓰기 트랜잭션마다 1씩 증가
+);
+
+INSERT INTO category_tree_version (id, version) VALUES (1, 0);
+
+CREATE TABLE category_tree_change (
+    version        BIGINT PRIMARY KEY,      -- 변경으로 올라간 트리 버전
+    change_type    VARCHAR(20) NOT NULL,    -- CREATED | UPDATED | MOVED | DELETED | BULK
+    category_id    BIGINT,                  -- 변경된 카테고리 ID (BULK이면 NULL)
+    old_parent_id  BIGINT,                  -- 변경 전 부모 ID
+    new_parent_id  BIGINT,                  -- 변경 후 부모 ID
+    origin         VARCHAR(36) NOT NULL     -- 기록한 인스턴스 식별자
+);
+
+COMMENT ON TABLE category_tree_version IS '카테고리 트리 버전';
+COMMENT ON TABLE category_tree_change IS '카테고리 트리 버전별 변경 이력';
@@ -0,0 +1,4 @@
+-- 낙관적 잠금 버전 (엔티티로 수정/삭제할 때마다 1 증가, ETag/If-Match로 노출)
+ALTER TABLE categories ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN categories.version IS '낙관적 잠금 버전';
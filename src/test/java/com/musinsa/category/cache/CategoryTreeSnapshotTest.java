@@ -0,0 +1,315 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.dto.response.CategoryResponse;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryTreeSnapshotTest {
+
+    private Category category(Long id, Long parentId, String name, int sortOrder) throws Exception {
+        Category category = Category.builder()
+                .parentId(parentId)
+                .name(name)
+                .slug(name)
+                .sortOrder(sortOrder)
+                .build();
+        var field = Category.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(category, id);
+        return category;
+    }
+
+    /**
+     * 1
+     *   2
+     *     4
+     *   3
+     * 5
+     *   6
+     */
+    private List<Category> tree(String leafName) throws Exception {
+        return List.of(
+                category(1L, null, "top", 1),
+                category(5L, null, "sports", 2),
+                category(2L, 1L, "shirts", 1),
+                category(3L, 1L, "knit", 2),
+                category(6L, 5L, "outdoor", 1),
+                category(4L, 2L, leafName, 1));
+    }
+
+    private String hash(CategoryTreeSnapshot snapshot, Long id) {
+        return snapshot.find(id).map(CategoryTreeResponse::getSubtreeHash).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("하위 트리 해시 - 같은 데이터면 같은 해시")
+    void sameTreeSameHash() throws Exception {
+        CategoryTreeSnapshot first = CategoryTreeSnapshot.of(1L, tree("oxford"));
+        CategoryTreeSnapshot second = CategoryTreeSnapshot.of(2L, tree("oxford"));
+
+        for (Long id : List.of(1L, 2L, 3L, 4L, 5L, 6L)) {
+            assertThat(hash(second, id)).isEqualTo(hash(first, id));
+        }
+    }
+
+    @Test
+    @DisplayName("하위 트리 해시 - 깊은 노드 변경 시 조상 체인만 변경")
+    void leafChangeOnlyChangesAncestorChain() throws Exception {
+        CategoryTreeSnapshot before = CategoryTreeSnapshot.of(1L, tree("oxford"));
+        CategoryTreeSnapshot after = CategoryTreeSnapshot.of(2L, tree("linen"));
+
+        // 변경된 노드와 조상
+        assertThat(hash(after, 4L)).isNotEqualTo(hash(before, 4L));
+        assertThat(hash(after, 2L)).isNotEqualTo(hash(before, 2L));
+        assertThat(hash(after, 1L)).isNotEqualTo(hash(before, 1L));
+        // 다른 가지
+        assertThat(hash(after, 3L)).isEqualTo(hash(before, 3L));
+        assertThat(hash(after, 5L)).isEqualTo(hash(before, 5L));
+        assertThat(hash(after, 6L)).isEqualTo(hash(before, 6L));
+    }
+
+    @Test
+    @DisplayName("스냅샷 - 루트와 자식 정렬 순서 유지")
+    void treeStructure() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, tree("oxford"));
+
+        assertThat(snapshot.getRoots()).extracting(CategoryTreeResponse::getId).containsExactly(1L, 5L);
+        assertThat(snapshot.find(1L).orElseThrow().getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(2L, 3L);
+        assertThat(snapshot.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("depth 제한 - 잘린 단계는 자식 수만 표시하고 원본 스냅샷은 유지")
+    void truncate() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, tree("oxford"));
+        CategoryTreeResponse top = snapshot.find(1L).orElseThrow();
+
+        CategoryTreeResponse truncated = top.truncate(1);
+
+        assertThat(truncated.getChildCount()).isNull();
+        assertThat(truncated.getSubtreeHash()).isEqualTo(top.getSubtreeHash());
+        assertThat(truncated.getChildren()).extracting(CategoryTreeResponse::getId).containsExactly(2L, 3L);
+        CategoryTreeResponse shirts = truncated.getChildren().get(0);
+        assertThat(shirts.getChildren()).isEmpty();
+        assertThat(shirts.getChildCount()).isEqualTo(1);
+        assertThat(shirts.getHasChildren()).isTrue();
+        assertThat(truncated.getChildren().get(1).getHasChildren()).isFalse();
+
+        assertThat(snapshot.find(2L).orElseThrow().getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(4L);
+        assertThat(snapshot.find(2L).orElseThrow().getChildCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("slug 인덱스 - 최상위부터 경로를 따라 조회")
+    void findByPath() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, tree("oxford"));
+
+        assertThat(snapshot.findByPath(List.of("top", "shirts", "oxford"))).map(CategoryTreeResponse::getId).contains(4L);
+        assertThat(snapshot.findByPath(List.of("sports"))).map(CategoryTreeResponse::getId).contains(5L);
+        // 최상위가 아니거나 다른 가지의 slug
+        assertThat(snapshot.findByPath(List.of("shirts"))).isEmpty();
+        assertThat(snapshot.findByPath(List.of("top", "outdoor"))).isEmpty();
+        assertThat(snapshot.findByPath(List.of())).isEmpty();
+
+        assertThat(snapshot.findBySlug("outdoor")).map(CategoryTreeResponse::getId).contains(6L);
+        assertThat(snapshot.findBySlug("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("slug 인덱스 - slug가 중복되면 깊이/정렬순서와 관계없이 ID가 가장 작은 카테고리 (부분 갱신도 동일)")
+    void duplicateSlugLowestId() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, List.of(
+                category(9L, null, "sale", 1),
+                category(1L, null, "top", 2),
+                category(2L, 1L, "sale", 1)));
+        assertThat(snapshot.findBySlug("sale")).map(CategoryTreeResponse::getId).contains(2L);
+
+        CategoryTreeSnapshot created = snapshot.patch(2L, CategoryChangedEvent.created(5L, null),
+                category(5L, null, "sale", 0)).orElseThrow();
+        assertThat(created.findBySlug("sale")).map(CategoryTreeResponse::getId).contains(2L);
+        assertThat(created.findByPath(List.of("sale"))).map(CategoryTreeResponse::getId).contains(5L);
+
+        CategoryTreeSnapshot deleted = created.patch(3L, CategoryChangedEvent.deleted(2L, 1L), null).orElseThrow();
+        assertThat(deleted.findBySlug("sale")).map(CategoryTreeResponse::getId).contains(5L);
+    }
+
+    @Test
+    @DisplayName("slug 인덱스 - 부모가 비활성인 카테고리는 경로로 찾을 수 없음")
+    void findByPathSkipsOrphans() throws Exception {
+        List<Category> categories = new ArrayList<>(tree("oxford"));
+        // 부모(99)가 비활성이라 목록에 없음
+        categories.add(category(7L, 99L, "orphan", 1));
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, categories);
+
+        assertThat(snapshot.findByPath(List.of("orphan"))).isEmpty();
+        assertThat(snapshot.findBySlug("orphan")).map(CategoryTreeResponse::getId).contains(7L);
+    }
+
+    @Test
+    @DisplayName("부모 포인터 - 최상위부터 자기 자신까지 경로")
+    void findAncestors() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, tree("oxford"));
+
+        assertThat(snapshot.findAncestors(4L).orElseThrow()).extracting(CategoryResponse::getId)
+                .containsExactly(1L, 2L, 4L);
+        assertThat(snapshot.findAncestors(5L).orElseThrow()).extracting(CategoryResponse::getId)
+                .containsExactly(5L);
+        assertThat(snapshot.findAncestors(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부모 포인터 - 비활성 조상이 있으면 DB 조회를 위해 비어 있음")
+    void findAncestorsWithInactiveParent() throws Exception {
+        List<Category> categories = new ArrayList<>(tree("oxford"));
+        categories.add(category(7L, 99L, "orphan", 1));
+        categories.add(category(8L, 7L, "orphan-child", 1));
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, categories);
+
+        assertThat(snapshot.findAncestors(8L)).isEmpty();
+        assertThat(snapshot.findAncestors(6L).orElseThrow()).extracting(CategoryResponse::getId)
+                .containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("부분 갱신 - 이동은 전체 재구성과 같은 결과이고 바뀌지 않은 노드는 공유")
+    void patchMove() throws Exception {
+        CategoryTreeSnapshot before = CategoryTreeSnapshot.of(1L, tree("oxford"));
+        Category moved = category(4L, 5L, "oxford", 2);
+
+        CategoryTreeSnapshot patched = before.patch(2L, CategoryChangedEvent.moved(4L, 2L, 5L), moved).orElseThrow();
+
+        assertSameAsRebuilt(patched, replace(tree("oxford"), moved));
+        assertThat(patched.getVersion()).isEqualTo(2L);
+        assertThat(patched.find(5L).orElseThrow().getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(6L, 4L);
+        assertThat(patched.findByPath(List.of("sports", "oxford"))).map(CategoryTreeResponse::getId).contains(4L);
+        assertThat(patched.findByPath(List.of("top", "shirts", "oxford"))).isEmpty();
+        assertThat(patched.find(2L).orElseThrow().getChildren()).isEmpty();
+        // 다른 가지와 옮겨진 카테고리의 형제는 같은 노드
+        assertThat(patched.find(3L).orElseThrow()).isSameAs(before.find(3L).orElseThrow());
+        assertThat(patched.find(6L).orElseThrow()).isSameAs(before.find(6L).orElseThrow());
+        // 원본 스냅샷은 그대로
+        assertThat(before.find(2L).orElseThrow().getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("부분 갱신 - 생성, 수정, 삭제는 전체 재구성과 같은 결과")
+    void patchCreateUpdateDelete() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, tree("oxford"));
+
+        Category denim = category(7L, 1L, "denim", 3);
+        CategoryTreeSnapshot created = snapshot.patch(2L, CategoryChangedEvent.created(7L, 1L), denim).orElseThrow();
+        List<Category> categories = new ArrayList<>(tree("oxford"));
+        categories.add(denim);
+        assertSameAsRebuilt(created, categories);
+
+        // 부모가 비활성이면 최상위로 취급
+        Category orphan = category(8L, 99L, "orphan", 1);
+        CategoryTreeSnapshot orphaned = created.patch(3L, CategoryChangedEvent.created(8L, 99L), orphan).orElseThrow();
+        categories.add(orphan);
+        assertSameAsRebuilt(orphaned, categories);
+        assertThat(orphaned.getRoots()).extracting(CategoryTreeResponse::getId).containsExactly(1L, 8L, 5L);
+
+        Category linen = category(4L, 2L, "linen", 1);
+        CategoryTreeSnapshot updated = orphaned.patch(4L, CategoryChangedEvent.updated(4L, 2L), linen).orElseThrow();
+        categories = replace(categories, linen);
+        assertSameAsRebuilt(updated, categories);
+        assertThat(updated.find(5L).orElseThrow()).isSameAs(snapshot.find(5L).orElseThrow());
+
+        CategoryTreeSnapshot deleted = updated.patch(5L, CategoryChangedEvent.deleted(4L, 2L), null).orElseThrow();
+        categories.remove(linen);
+        assertSameAsRebuilt(deleted, categories);
+        assertThat(deleted.getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정렬순서가 같은 형제 - 입력 순서와 관계없이 전체 구성과 부분 갱신 모두 ID 순")
+    void sameSortOrderSiblingsOrderedById() throws Exception {
+        // DB 조회 결과처럼 sort_order만 정렬되어 같은 순서끼리는 임의 순서로 들어오는 경우
+        List<Category> categories = new ArrayList<>(List.of(
+                category(9L, null, "sale", 1),
+                category(1L, null, "top", 1),
+                category(8L, 1L, "knit", 1),
+                category(2L, 1L, "shirts", 1)));
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, categories);
+
+        assertThat(snapshot.getRoots()).extracting(CategoryTreeResponse::getId).containsExactly(1L, 9L);
+        assertThat(snapshot.find(1L).orElseThrow().getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(2L, 8L);
+
+        Category outer = category(5L, null, "outer", 1);
+        Category denim = category(4L, 1L, "denim", 1);
+        CategoryTreeSnapshot patched = snapshot
+                .patch(2L, CategoryChangedEvent.created(5L, null), outer).orElseThrow()
+                .patch(3L, CategoryChangedEvent.created(4L, 1L), denim).orElseThrow();
+        categories.add(0, denim);
+        categories.add(0, outer);
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.of(3L, categories);
+
+        assertThat(patched.getRoots()).extracting(CategoryTreeResponse::getId).containsExactly(1L, 5L, 9L);
+        assertThat(patched.find(1L).orElseThrow().getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(2L, 4L, 8L);
+        assertThat(rebuilt.getRoots()).extracting(CategoryTreeResponse::getSubtreeHash)
+                .containsExactlyElementsOf(patched.getRoots().stream().map(CategoryTreeResponse::getSubtreeHash).toList());
+    }
+
+    @Test
+    @DisplayName("부분 갱신 - 하위 카테고리가 최상위로 올라가거나 하위 트리가 이동하거나 순환이 생기면 전체 재적재 필요")
+    void patchNotApplicable() throws Exception {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.of(1L, tree("oxford"));
+
+        // 하위 카테고리가 있는 카테고리 삭제
+        assertThat(snapshot.patch(2L, CategoryChangedEvent.deleted(2L, 1L), null)).isEmpty();
+        // 스냅샷에 없던 카테고리의 재활성
+        assertThat(snapshot.patch(2L, CategoryChangedEvent.updated(9L, null), category(9L, null, "hidden", 3))).isEmpty();
+        // 자기 하위로 이동
+        assertThat(snapshot.patch(2L, CategoryChangedEvent.moved(1L, null, 4L), category(1L, 4L, "top", 1))).isEmpty();
+        // 하위 카테고리가 있는 카테고리의 이동 (하위 카테고리의 버전도 바뀜)
+        assertThat(snapshot.patch(2L, CategoryChangedEvent.moved(2L, 1L, 5L), category(2L, 5L, "shirts", 2))).isEmpty();
+        // 스냅샷에 없는 카테고리의 삭제는 변경 없음
+        assertThat(snapshot.patch(2L, CategoryChangedEvent.deleted(9L, null), null)).containsSame(snapshot);
+    }
+
+    private List<Category> replace(List<Category> categories, Category changed) {
+        List<Category> replaced = new ArrayList<>(categories);
+        replaced.replaceAll(category -> category.getId().equals(changed.getId()) ? changed : category);
+        return replaced;
+    }
+
+    /**
+     * 변경 이후 목록을 DB 조회처럼 sort_order 순으로만 정렬하여 다시 만든 스냅샷과 구조, 해시, 인덱스 비교
+     */
+    private void assertSameAsRebuilt(CategoryTreeSnapshot patched, List<Category> categories) {
+        List<Category> sorted = new ArrayList<>(categories);
+        sorted.sort(Comparator.comparing(Category::getSortOrder));
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.of(patched.getVersion(), sorted);
+
+        assertThat(patched.getRoots()).extracting(CategoryTreeResponse::getSubtreeHash)
+                .containsExactlyElementsOf(rebuilt.getRoots().stream().map(CategoryTreeResponse::getSubtreeHash).toList());
+        assertThat(patched.size()).isEqualTo(rebuilt.size());
+        assertThat(patched.getDepth()).isEqualTo(rebuilt.getDepth());
+        for (Category category : categories) {
+            assertThat(hash(patched, category.getId())).isEqualTo(hash(rebuilt, category.getId()));
+            assertThat(ancestorIds(patched, category.getId())).isEqualTo(ancestorIds(rebuilt, category.getId()));
+            assertThat(patched.findBySlug(category.getSlug())).map(CategoryTreeResponse::getId)
+                    .isEqualTo(rebuilt.findBySlug(category.getSlug()).map(CategoryTreeResponse::getId));
+        }
+    }
+
+    private Optional<List<Long>> ancestorIds(CategoryTreeSnapshot snapshot, Long id) {
+        return snapshot.findAncestors(id).map(ancestors -> ancestors.stream().map(CategoryResponse::getId).toList());
+    }
+}
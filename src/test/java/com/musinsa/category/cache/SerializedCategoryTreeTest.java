@@ -0,0 +1,53 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.cache.SerializedCategoryTree.Fragment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedCategoryTreeTest {
+
+    private static final String JSON = "{\"data\":[{\"id\":1},{\"id\":2}]}";
+
+    @Test
+    @DisplayName("압축본/ETag - 요청 시 한 번만 만들고 재사용")
+    void gzipIsBuiltOnceOnDemand() throws IOException {
+        SerializedCategoryTree tree = new SerializedCategoryTree(1L, JSON.getBytes(StandardCharsets.UTF_8));
+
+        byte[] gzip = tree.getGzip();
+        assertThat(tree.getGzip()).isSameAs(gzip);
+        assertThat(decompress(gzip)).isEqualTo(JSON);
+        assertThat(tree.getGzipEtag()).isNotEqualTo(tree.getEtag());
+        assertThat(tree.getEtag()).isEqualTo(tree.getEtag());
+    }
+
+    @Test
+    @DisplayName("조각으로 만든 압축본 - 원본 JSON과 ETag가 한 번에 직렬화한 결과와 동일")
+    void fragmentsSameAsWholeJson() throws IOException {
+        SerializedCategoryTree tree = SerializedCategoryTree.of(1L, List.of(
+                fragment("{\"data\":["), fragment("{\"id\":1}"), fragment(","), fragment("{\"id\":2}"), fragment("]}")));
+        SerializedCategoryTree whole = new SerializedCategoryTree(1L, JSON.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(new String(tree.getJson(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+        assertThat(decompress(tree.getGzip())).isEqualTo(JSON);
+        assertThat(tree.getEtag()).isEqualTo(whole.getEtag());
+        assertThat(tree.getGzipEtag()).isEqualTo(whole.getGzipEtag());
+    }
+
+    private Fragment fragment(String json) {
+        return Fragment.of(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decompress(byte[] gzip) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
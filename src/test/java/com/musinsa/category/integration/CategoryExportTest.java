@@ -0,0 +1,152 @@
+package com.musinsa.category.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.service.CategoryExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 내보내기는 비동기 스레드에서 실행되어 테스트 트랜잭션 데이터를 볼 수 없으므로 서비스를 직접 호출하여 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CategoryExportTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryExportService categoryExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long fashionId;
+    private Long topId;
+    private Long shirtsId;
+    private Long knitId;
+    private Long sportsId;
+    private Long bottomId;
+    private Long jeansId;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.deleteAll();
+
+        /**
+         * 스포츠(order 2)
+         * 패션(order 1)
+         *   상의(2)
+         *     셔츠(2)
+         *     니트(1)
+         *   하의(1) - 비활성
+         *     청바지(1) - 부모가 비활성이므로 전체 조회처럼 최상위로 내보냄
+         */
+        sportsId = save("스포츠", "sports", null, 2, true);
+        fashionId = save("패션", "fashion", null, 1, true);
+        topId = save("상의", "top", fashionId, 2, true);
+        bottomId = save("하의", "bottom", fashionId, 1, false);
+        shirtsId = save("셔츠", "shirts", topId, 2, true);
+        knitId = save("니트", "knit", topId, 1, true);
+        jeansId = save("청바지", "jeans", bottomId, 1, true);
+    }
+
+    private Long save(String name, String slug, Long parentId, int order, boolean active) {
+        // 내보내기는 JDBC로 읽으므로 바로 반영
+        return categoryRepository.saveAndFlush(Category.builder()
+                .name(name)
+                .slug(slug)
+                .parentId(parentId)
+                .sortOrder(order)
+                .isActive(active)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("트리 내보내기 - 정렬순서대로 중첩, 비활성 카테고리 제외")
+    void exportTree() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        categoryExportService.exportTree(out);
+
+        JsonNode roots = objectMapper.readTree(out.toByteArray()).get("data");
+        assertThat(roots).hasSize(3);
+        assertThat(roots.get(0).get("id").asLong()).isEqualTo(fashionId);
+        assertThat(roots.get(1).get("id").asLong()).isEqualTo(jeansId);
+        assertThat(roots.get(2).get("id").asLong()).isEqualTo(sportsId);
+        assertThat(roots.get(2).get("children")).isEmpty();
+
+        JsonNode fashionChildren = roots.get(0).get("children");
+        assertThat(fashionChildren).hasSize(1);
+        assertThat(fashionChildren.get(0).get("id").asLong()).isEqualTo(topId);
+
+        JsonNode topChildren = fashionChildren.get(0).get("children");
+        assertThat(topChildren).hasSize(2);
+        assertThat(topChildren.get(0).get("id").asLong()).isEqualTo(knitId);
+        assertThat(topChildren.get(1).get("id").asLong()).isEqualTo(shirtsId);
+        assertThat(topChildren.get(1).get("slug").asText()).isEqualTo("shirts");
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 부모가 자식보다 먼저")
+    void exportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        categoryExportService.exportNdjson(out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        List<Long> ids = lines.stream()
+                .map(line -> readTree(line).get("id").asLong())
+                .toList();
+
+        assertThat(ids).containsExactly(fashionId, topId, knitId, shirtsId, jeansId, sportsId);
+        assertThat(readTree(lines.get(1)).get("parentId").asLong()).isEqualTo(fashionId);
+        assertThat(readTree(lines.get(0)).has("parentId")).isFalse();
+    }
+
+    @Test
+    @DisplayName("내보내기 - 부모가 비활성인 활성 카테고리는 하위 카테고리와 함께 최상위로 (전체 조회와 동일)")
+    void exportChildOfInactiveParentAsRoot() throws Exception {
+        Long slimId = save("슬림핏", "slim", jeansId, 1, true);
+
+        ByteArrayOutputStream treeOut = new ByteArrayOutputStream();
+        categoryExportService.exportTree(treeOut);
+        JsonNode jeans = objectMapper.readTree(treeOut.toByteArray()).get("data").get(1);
+        assertThat(jeans.get("id").asLong()).isEqualTo(jeansId);
+        assertThat(jeans.get("children")).hasSize(1);
+        assertThat(jeans.get("children").get(0).get("id").asLong()).isEqualTo(slimId);
+
+        ByteArrayOutputStream ndjsonOut = new ByteArrayOutputStream();
+        categoryExportService.exportNdjson(ndjsonOut);
+        List<JsonNode> lines = ndjsonOut.toString(StandardCharsets.UTF_8).lines()
+                .map(this::readTree)
+                .toList();
+        // 내보내지 않은 비활성 부모를 가리키지 않으므로 그대로 다시 적재할 수 있음
+        assertThat(lines).noneMatch(line -> line.path("parentId").asLong() == bottomId);
+        JsonNode jeansLine = lines.stream().filter(line -> line.get("id").asLong() == jeansId).findFirst().orElseThrow();
+        assertThat(jeansLine.has("parentId")).isFalse();
+        JsonNode slimLine = lines.stream().filter(line -> line.get("id").asLong() == slimId).findFirst().orElseThrow();
+        assertThat(slimLine.get("parentId").asLong()).isEqualTo(jeansId);
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
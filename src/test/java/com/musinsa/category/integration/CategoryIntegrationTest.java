@@ -1,20 +1,33 @@
 package com.musinsa.category.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.config.CategoryProperties;
 import com.musinsa.category.domain.entity.Category;
 import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryBulkRequest;
+import com.musinsa.category.dto.request.CategoryMoveRequest;
+import com.musinsa.category.dto.request.CategoryOrderRequest;
 import com.musinsa.category.dto.request.CategoryRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +47,12 @@ class CategoryIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         categoryRepository.deleteAll();
@@ -241,4 +260,663 @@ class CategoryIntegrationTest {
                         .content(objectMapper.writeValueAsString(noSlug)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상위 카테고리 경로 조회 - 부모 변경 이후에도 경로 유지")
+    void ancestorsAfterReparent() throws Exception {
+        Long electronicsId = create(new CategoryRequest("전자제품", "electronics", null, 1));
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 2));
+        Long computerId = create(new CategoryRequest("컴퓨터", "computer", electronicsId, 1));
+        Long laptopId = create(new CategoryRequest("노트북", "laptop", computerId, 1));
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", laptopId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andExpect(jsonPath("$.data[0].id").value(electronicsId))
+                .andExpect(jsonPath("$.data[1].id").value(computerId))
+                .andExpect(jsonPath("$.data[2].id").value(laptopId));
+
+        // 컴퓨터를 의류 아래로 이동하면 노트북의 경로도 함께 변경
+        mockMvc.perform(put("/api/categories/{id}", computerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("컴퓨터", "computer", clothingId, 1))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", laptopId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(clothingId))
+                .andExpect(jsonPath("$.data[1].id").value(computerId))
+                .andExpect(jsonPath("$.data[2].id").value(laptopId));
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", 999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("낙관적 잠금 - 쓰기 응답의 ETag(버전)를 If-Match로 전달, 그 사이 변경되었으면 412")
+    void optimisticLockingWithIfMatch() throws Exception {
+        String created = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("전자제품", "electronics", null, 1))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(created).get("id").asLong();
+
+        // 편집자 A가 먼저 수정
+        mockMvc.perform(put("/api/categories/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("가전", "appliances", null, 1))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // 같은 버전을 보고 있던 편집자 B의 수정/삭제는 거부
+        mockMvc.perform(put("/api/categories/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("디지털", "digital", null, 1))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode").value("CATEGORY_VERSION_MISMATCH"));
+        mockMvc.perform(delete("/api/categories/{id}", id).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/categories/{id}", id).header(HttpHeaders.IF_MATCH, "W/\"1\""))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(categoryRepository.findById(id).orElseThrow().getName()).isEqualTo("가전");
+
+        // 최신 버전이면 삭제 (soft delete UPDATE에 버전 조건 포함)
+        mockMvc.perform(delete("/api/categories/{id}", id).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isOk());
+        assertThat(categoryRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 삭제된 하위 카테고리는 경로와 버전을 바꾸지 않음")
+    void moveSubtreeSkipsDeleted() throws Exception {
+        Long electronicsId = create(new CategoryRequest("전자제품", "electronics", null, 1));
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 2));
+        Long computerId = create(new CategoryRequest("컴퓨터", "computer", electronicsId, 1));
+        Long laptopId = create(new CategoryRequest("노트북", "laptop", computerId, 1));
+        Long desktopId = create(new CategoryRequest("데스크탑", "desktop", computerId, 2));
+
+        mockMvc.perform(delete("/api/categories/{id}", desktopId))
+                .andExpect(status().isOk());
+        categoryRepository.flush();
+        Map<String, Object> deletedBefore = jdbcTemplate.queryForMap(
+                "SELECT path, ancestor_id, version FROM categories WHERE id = ?", desktopId);
+
+        mockMvc.perform(post("/api/categories/{id}/move", computerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryMoveRequest(clothingId, null))))
+                .andExpect(status().isOk());
+
+        assertThat(categoryRepository.findById(laptopId).orElseThrow().getPathIds())
+                .containsExactly(clothingId, computerId, laptopId);
+        assertThat(jdbcTemplate.queryForMap("SELECT path, ancestor_id, version FROM categories WHERE id = ?", desktopId))
+                .isEqualTo(deletedBefore);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 하위 트리 전체의 경로와 최상위 카테고리 ID 변경")
+    void moveSubtree() throws Exception {
+        Long electronicsId = create(new CategoryRequest("전자제품", "electronics", null, 1));
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 2));
+        Long computerId = create(new CategoryRequest("컴퓨터", "computer", electronicsId, 3));
+        Long laptopId = create(new CategoryRequest("노트북", "laptop", computerId, 1));
+        Long gamingId = create(new CategoryRequest("게이밍 노트북", "gaming", laptopId, 1));
+        categoryRepository.flush();
+        LocalDateTime staleUpdatedAt = LocalDateTime.of(2000, 1, 1, 0, 0);
+        jdbcTemplate.update("UPDATE categories SET updated_at = ? WHERE id = ?", staleUpdatedAt, gamingId);
+
+        mockMvc.perform(post("/api/categories/{id}/move", computerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryMoveRequest(clothingId, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentId").value(clothingId))
+                .andExpect(jsonPath("$.order").value(3));
+
+        assertThat(categoryRepository.findAllByAncestorIdAndAndIsActiveTrueOrderBySortOrderAsc(clothingId))
+                .extracting(Category::getId)
+                .containsExactlyInAnyOrder(computerId, laptopId, gamingId);
+        assertThat(categoryRepository.findAllByAncestorIdAndAndIsActiveTrueOrderBySortOrderAsc(electronicsId)).isEmpty();
+        assertThat(categoryRepository.findById(gamingId).orElseThrow().getPathIds())
+                .containsExactly(clothingId, computerId, laptopId, gamingId);
+        // 경로 일괄 UPDATE로 바뀐 하위 카테고리도 버전 증가 (이동 전 버전의 If-Match는 412)
+        assertThat(categoryRepository.findById(gamingId).orElseThrow().getVersion()).isEqualTo(1L);
+        assertThat(categoryRepository.findById(gamingId).orElseThrow().getUpdatedAt()).isAfter(staleUpdatedAt);
+        mockMvc.perform(put("/api/categories/{id}", gamingId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("게이밍", "gaming", laptopId, 1))))
+                .andExpect(status().isPreconditionFailed());
+
+        // 최상위로 이동하면 자신이 하위 카테고리의 최상위
+        mockMvc.perform(post("/api/categories/{id}/move", laptopId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryMoveRequest(null, 3))))
+                .andExpect(status().isOk());
+        assertThat(categoryRepository.findById(gamingId).orElseThrow().getAncestorId()).isEqualTo(laptopId);
+        mockMvc.perform(get("/api/categories/{id}/ancestors", gamingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].id").value(laptopId));
+
+        // 자신의 하위 카테고리 아래로는 이동 불가
+        mockMvc.perform(post("/api/categories/{id}/move", laptopId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryMoveRequest(gamingId, null))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CATEGORY_MOVE"));
+        mockMvc.perform(post("/api/categories/{id}/move", 999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryMoveRequest(null, null))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 자기 자신이나 하위 카테고리를 부모로 지정하면 400")
+    void reparentCycleRejected() throws Exception {
+        Long electronicsId = create(new CategoryRequest("전자제품", "electronics", null, 1));
+        Long computerId = create(new CategoryRequest("컴퓨터", "computer", electronicsId, 1));
+        Long laptopId = create(new CategoryRequest("노트북", "laptop", computerId, 1));
+
+        for (Long parentId : List.of(electronicsId, laptopId)) {
+            mockMvc.perform(put("/api/categories/{id}", electronicsId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CategoryRequest("전자제품", "electronics", parentId, 1))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("INVALID_CATEGORY_MOVE"));
+        }
+
+        // 경로가 없는 데이터용 조상 체인 조회 (재귀 CTE)
+        assertThat(categoryRepository.existsInAncestorChain(laptopId, electronicsId)).isTrue();
+        assertThat(categoryRepository.existsInAncestorChain(laptopId, laptopId)).isTrue();
+        assertThat(categoryRepository.existsInAncestorChain(electronicsId, laptopId)).isFalse();
+
+        mockMvc.perform(get("/api/categories/{id}", electronicsId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].children[0].id").value(laptopId));
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 정렬순서 일괄 변경 - 전체 ID 목록 순서대로 변경, 목록이 다르면 400")
+    void reorderChildren() throws Exception {
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 1));
+        Long topId = create(new CategoryRequest("상의", "top", clothingId, 1));
+        Long pantsId = create(new CategoryRequest("바지", "pants", clothingId, 2));
+        Long outerId = create(new CategoryRequest("아우터", "outer", clothingId, 3));
+
+        mockMvc.perform(put("/api/categories/{parentId}/children/order", clothingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryOrderRequest(List.of(outerId, topId, pantsId)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(outerId))
+                .andExpect(jsonPath("$.data[0].order").value(1))
+                .andExpect(jsonPath("$.data[0].version").value(1))
+                .andExpect(jsonPath("$.data[2].id").value(pantsId))
+                .andExpect(jsonPath("$.data[2].order").value(3));
+
+        mockMvc.perform(get("/api/categories/{id}/children", clothingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(outerId))
+                .andExpect(jsonPath("$.data[1].id").value(topId))
+                .andExpect(jsonPath("$.data[2].id").value(pantsId));
+
+        // 누락
+        mockMvc.perform(put("/api/categories/{parentId}/children/order", clothingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryOrderRequest(List.of(topId, pantsId)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CATEGORY_ORDER"));
+        mockMvc.perform(put("/api/categories/{parentId}/children/order", 999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryOrderRequest(List.of()))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("카테고리 비활성/활성 - 하위 트리 전체를 한번에 변경")
+    void deactivateAndActivateSubtree() throws Exception {
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 1));
+        Long seasonId = create(new CategoryRequest("시즌 특가", "season", null, 2));
+        Long coatId = create(new CategoryRequest("코트", "coat", seasonId, 1));
+        create(new CategoryRequest("패딩", "padding", coatId, 1));
+
+        mockMvc.perform(post("/api/categories/{id}/deactivate", seasonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(seasonId))
+                .andExpect(jsonPath("$.active").value(false))
+                .andExpect(jsonPath("$.affectedCount").value(3));
+
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].id").value(clothingId));
+        mockMvc.perform(get("/api/categories/by-slug/{slug}", "coat"))
+                .andExpect(status().isNotFound());
+
+        // 이미 비활성이면 바뀐 카테고리 없음
+        mockMvc.perform(post("/api/categories/{id}/deactivate", coatId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCount").value(0));
+
+        mockMvc.perform(post("/api/categories/{id}/activate", seasonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(true))
+                .andExpect(jsonPath("$.affectedCount").value(3));
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[1].children[0].children[0].slug").value("padding"));
+        // 비활성/활성 UPDATE마다 버전 증가
+        assertThat(categoryRepository.findById(coatId).orElseThrow().getVersion()).isEqualTo(2L);
+
+        mockMvc.perform(post("/api/categories/{id}/deactivate", 999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("카테고리 활성 - 상위 카테고리가 비활성이면 최상위로 노출됨을 응답에 표시, 경로가 없으면 400")
+    void activateUnderInactiveParentAndPathMissing() throws Exception {
+        Long seasonId = create(new CategoryRequest("시즌 특가", "season", null, 1));
+        Long coatId = create(new CategoryRequest("코트", "coat", seasonId, 1));
+        mockMvc.perform(post("/api/categories/{id}/deactivate", seasonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentActive").doesNotExist());
+
+        mockMvc.perform(post("/api/categories/{id}/activate", coatId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCount").value(1))
+                .andExpect(jsonPath("$.parentActive").value(false));
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(coatId));
+
+        // 경로가 채워지지 않은 데이터는 UPDATE 0건 성공 대신 거부
+        Long legacyId = categoryRepository.saveAndFlush(Category.builder()
+                .name("레거시")
+                .slug("legacy")
+                .sortOrder(2)
+                .build()).getId();
+        mockMvc.perform(post("/api/categories/{id}/deactivate", legacyId))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("CATEGORY_PATH_MISSING"));
+    }
+
+    @Test
+    @DisplayName("상위 카테고리 경로 일괄 조회 - 요청 순서 유지, 없는 카테고리 제외")
+    void breadcrumbsBatch() throws Exception {
+        Long electronicsId = create(new CategoryRequest("전자제품", "electronics", null, 1));
+        Long computerId = create(new CategoryRequest("컴퓨터", "computer", electronicsId, 1));
+        Long laptopId = create(new CategoryRequest("노트북", "laptop", computerId, 1));
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 2));
+
+        mockMvc.perform(get("/api/categories/ancestors")
+                        .param("ids", laptopId + "," + clothingId + ",999," + laptopId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].id").value(laptopId))
+                .andExpect(jsonPath("$.data[0].ancestors[0].id").value(electronicsId))
+                .andExpect(jsonPath("$.data[0].ancestors[1].id").value(computerId))
+                .andExpect(jsonPath("$.data[0].ancestors[2].id").value(laptopId))
+                .andExpect(jsonPath("$.data[1].id").value(clothingId))
+                .andExpect(jsonPath("$.data[1].ancestors", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("직계 하위 카테고리 커서 페이징 - 정렬순서가 같아도 누락/중복 없이 앞뒤로 이동")
+    void childrenKeysetPaging() throws Exception {
+        Long parentId = create(new CategoryRequest("의류", "clothing", null, 1));
+        Long first = create(new CategoryRequest("셔츠", "shirts", parentId, 1));
+        Long second = create(new CategoryRequest("니트", "knit", parentId, 2));
+        Long third = create(new CategoryRequest("후드", "hoodie", parentId, 2));
+        Long fourth = create(new CategoryRequest("코트", "coat", parentId, 3));
+        Long fifth = create(new CategoryRequest("패딩", "padding", parentId, 4));
+
+        // 1페이지
+        String page1 = mockMvc.perform(get("/api/categories/{id}/children", parentId).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].id").value(first))
+                .andExpect(jsonPath("$.data[1].id").value(second))
+                .andExpect(jsonPath("$.paging.pageSize").value(2))
+                .andExpect(jsonPath("$.paging.links.next").exists())
+                .andExpect(jsonPath("$.paging.links.prev").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        // 2페이지
+        String page2 = mockMvc.perform(get("/api/categories/{id}/children", parentId)
+                        .param("size", "2")
+                        .param("after", objectMapper.readTree(page1).at("/paging/cursors/after").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(third))
+                .andExpect(jsonPath("$.data[1].id").value(fourth))
+                .andReturn().getResponse().getContentAsString();
+
+        // 3페이지 (마지막)
+        String page3 = mockMvc.perform(get("/api/categories/{id}/children", parentId)
+                        .param("size", "2")
+                        .param("after", objectMapper.readTree(page2).at("/paging/cursors/after").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].id").value(fifth))
+                .andExpect(jsonPath("$.paging.links.next").doesNotExist())
+                .andExpect(jsonPath("$.paging.links.prev").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        // 이전 페이지로 이동
+        mockMvc.perform(get("/api/categories/{id}/children", parentId)
+                        .param("size", "2")
+                        .param("before", objectMapper.readTree(page3).at("/paging/cursors/before").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(third))
+                .andExpect(jsonPath("$.data[1].id").value(fourth))
+                .andExpect(jsonPath("$.paging.links.prev").exists());
+
+        // 잘못된 커서, 페이지 크기, 존재하지 않는 카테고리
+        mockMvc.perform(get("/api/categories/{id}/children", parentId).param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_PAGING"));
+        mockMvc.perform(get("/api/categories/{id}/children", parentId).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/categories/{id}/children", 999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("depth 제한 조회 - 마지막 단계에는 자식 대신 자식 수 표시")
+    void depthLimitedTree() throws Exception {
+        Long topId = create(new CategoryRequest("상의", "top", null, 1));
+        Long shirtsId = create(new CategoryRequest("셔츠", "shirts", topId, 1));
+        create(new CategoryRequest("옥스포드", "oxford", shirtsId, 1));
+        create(new CategoryRequest("린넨", "linen", shirtsId, 2));
+        Long knitId = create(new CategoryRequest("니트", "knit", topId, 2));
+        create(new CategoryRequest("스포츠", "sports", null, 2));
+
+        mockMvc.perform(get("/api/categories/{id}", topId).param("depth", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childCount").doesNotExist())
+                .andExpect(jsonPath("$.children", hasSize(2)))
+                .andExpect(jsonPath("$.children[0].id").value(shirtsId))
+                .andExpect(jsonPath("$.children[0].children", hasSize(0)))
+                .andExpect(jsonPath("$.children[0].childCount").value(2))
+                .andExpect(jsonPath("$.children[0].hasChildren").value(true))
+                .andExpect(jsonPath("$.children[1].id").value(knitId))
+                .andExpect(jsonPath("$.children[1].hasChildren").value(false));
+
+        mockMvc.perform(get("/api/categories").param("depth", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].children", hasSize(0)))
+                .andExpect(jsonPath("$.data[0].childCount").value(2))
+                .andExpect(jsonPath("$.data[1].childCount").value(0));
+
+        // depth 없이 조회하면 자식 수를 표시하지 않음
+        mockMvc.perform(get("/api/categories/{id}", topId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].children", hasSize(2)))
+                .andExpect(jsonPath("$.children[0].childCount").doesNotExist());
+
+        mockMvc.perform(get("/api/categories/{id}", topId).param("depth", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_DEPTH"));
+    }
+
+    @Test
+    @DisplayName("slug/URL 경로 조회 - 최상위부터 slug를 따라 조회")
+    void findBySlugAndPath() throws Exception {
+        Long topId = create(new CategoryRequest("상의", "top", null, 1));
+        Long shirtsId = create(new CategoryRequest("셔츠", "shirts", topId, 1));
+        Long oxfordId = create(new CategoryRequest("옥스포드", "oxford", shirtsId, 1));
+        Long sportsId = create(new CategoryRequest("스포츠", "sports", null, 2));
+        create(new CategoryRequest("반팔", "short-sleeve", sportsId, 1));
+
+        mockMvc.perform(get("/api/categories/by-path/top/shirts/oxford"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(oxfordId));
+
+        mockMvc.perform(get("/api/categories/by-path/top/shirts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(shirtsId))
+                .andExpect(jsonPath("$.children[0].id").value(oxfordId));
+
+        mockMvc.perform(get("/api/categories/by-slug/{slug}", "shirts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(shirtsId));
+
+        // 최상위가 아닌 slug로 시작하거나 다른 가지의 slug
+        mockMvc.perform(get("/api/categories/by-path/shirts/oxford"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/categories/by-path/sports/shirts"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/categories/by-slug/{slug}", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("CATEGORY_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("카테고리 일괄 생성/수정 - 요청 안의 부모 참조와 기존 카테고리 수정")
+    void bulkUpsert() throws Exception {
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 1));
+
+        // 자식이 부모보다 먼저 와도 부모부터 생성
+        CategoryBulkRequest request = new CategoryBulkRequest(List.of(
+                CategoryBulkRequest.Item.builder().ref("laptop").parentRef("computer").name("노트북").slug("laptop").order(1).build(),
+                CategoryBulkRequest.Item.builder().ref("computer").parentRef("electronics").name("컴퓨터").slug("computer").order(1).build(),
+                CategoryBulkRequest.Item.builder().ref("electronics").name("전자제품").slug("electronics").order(2).build(),
+                CategoryBulkRequest.Item.builder().parentId(clothingId).name("셔츠").slug("shirts").order(1).build(),
+                CategoryBulkRequest.Item.builder().id(clothingId).name("패션의류").slug("fashion").order(1).build()
+        ));
+
+        String response = mockMvc.perform(post("/api/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(5)))
+                .andExpect(jsonPath("$.data[0].name").value("노트북"))
+                .andExpect(jsonPath("$.data[3].parentId").value(clothingId))
+                .andExpect(jsonPath("$.data[4].id").value(clothingId))
+                .andExpect(jsonPath("$.data[4].name").value("패션의류"))
+                .andReturn().getResponse().getContentAsString();
+
+        Long laptopId = objectMapper.readTree(response).at("/data/0/id").asLong();
+        Long computerId = objectMapper.readTree(response).at("/data/1/id").asLong();
+        Long electronicsId = objectMapper.readTree(response).at("/data/2/id").asLong();
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", laptopId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(electronicsId))
+                .andExpect(jsonPath("$.data[1].id").value(computerId))
+                .andExpect(jsonPath("$.data[2].id").value(laptopId));
+
+        mockMvc.perform(get("/api/categories/{id}", electronicsId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].id").value(computerId))
+                .andExpect(jsonPath("$.children[0].children[0].id").value(laptopId));
+    }
+
+    @Test
+    @DisplayName("카테고리 일괄 생성/수정 - 잘못된 요청은 전체 롤백")
+    void bulkUpsertErrorCases() throws Exception {
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 1));
+
+        // 존재하지 않는 parentRef
+        assertBulkRejected(List.of(
+                CategoryBulkRequest.Item.builder().parentRef("missing").name("셔츠").slug("shirts").build()));
+
+        // parentRef 순환 참조
+        assertBulkRejected(List.of(
+                CategoryBulkRequest.Item.builder().ref("a").parentRef("b").name("A").slug("a").build(),
+                CategoryBulkRequest.Item.builder().ref("b").parentRef("a").name("B").slug("b").build()));
+
+        // 일괄 수정에서 상위 카테고리 변경
+        Long shoesId = create(new CategoryRequest("신발", "shoes", null, 2));
+        assertBulkRejected(List.of(
+                CategoryBulkRequest.Item.builder().id(shoesId).parentId(clothingId).name("신발").slug("shoes").build()));
+
+        // 존재하지 않는 부모
+        mockMvc.perform(post("/api/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryBulkRequest(List.of(
+                                CategoryBulkRequest.Item.builder().parentId(999L).name("셔츠").slug("shirts").build())))))
+                .andExpect(status().isNotFound());
+
+        // 빈 목록
+        mockMvc.perform(post("/api/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryBulkRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("카테고리 일괄 생성/수정 - 정렬순서가 없으면 0으로 저장")
+    void bulkUpsertWithoutOrder() throws Exception {
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 3));
+
+        mockMvc.perform(post("/api/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryBulkRequest(List.of(
+                                CategoryBulkRequest.Item.builder().id(clothingId).name("패션의류").slug("fashion").build(),
+                                CategoryBulkRequest.Item.builder().name("신발").slug("shoes").build())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].order").value(0))
+                .andExpect(jsonPath("$.data[1].order").value(0));
+
+        assertThat(categoryRepository.findById(clothingId).orElseThrow().getSortOrder()).isZero();
+    }
+
+    @Test
+    @DisplayName("NDJSON 적재 - 묶음 경계를 넘는 parentId/parentSlug 참조")
+    void importNdjson() throws Exception {
+        Long clothingId = create(new CategoryRequest("의류", "clothing", null, 1));
+
+        // 테스트 batch-size는 2이므로 3개 묶음으로 나뉨
+        String ndjson = """
+                {"id": 100, "name": "전자제품", "slug": "electronics", "order": 2}
+                {"id": 101, "parentId": 100, "name": "컴퓨터", "slug": "computer", "order": 1}
+
+                {"id": 102, "parentId": 101, "name": "노트북", "slug": "laptop", "order": 1}
+                {"parentSlug": "clothing", "name": "셔츠", "slug": "shirts", "order": 1}
+                {"parentSlug": "laptop", "name": "게이밍", "slug": "gaming", "order": 1}
+                """;
+
+        mockMvc.perform(post("/api/categories/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(5));
+
+        Category gaming = categoryRepository.findBySlug("gaming").orElseThrow();
+        Category laptop = categoryRepository.findBySlug("laptop").orElseThrow();
+        Category computer = categoryRepository.findBySlug("computer").orElseThrow();
+        Category electronics = categoryRepository.findBySlug("electronics").orElseThrow();
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", gaming.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(electronics.getId()))
+                .andExpect(jsonPath("$.data[1].id").value(computer.getId()))
+                .andExpect(jsonPath("$.data[2].id").value(laptop.getId()))
+                .andExpect(jsonPath("$.data[3].id").value(gaming.getId()));
+
+        mockMvc.perform(get("/api/categories/{id}", clothingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].slug").value("shirts"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 1000})
+    @DisplayName("NDJSON 적재 - parentSlug는 batch-size와 무관하게 가장 나중에 나온 같은 slug 행을 부모로")
+    void importNdjsonParentSlugIndependentOfBatchSize(int batchSize) throws Exception {
+        create(new CategoryRequest("기존 의류", "clothing", null, 1));
+
+        String ndjson = """
+                {"id": 1, "name": "의류", "slug": "clothing", "order": 2}
+                {"id": 2, "name": "새 의류", "slug": "clothing", "order": 3}
+                {"parentSlug": "clothing", "name": "셔츠", "slug": "shirts", "order": 1}
+                """;
+
+        int originalBatchSize = categoryProperties.getNdjsonImport().getBatchSize();
+        categoryProperties.getNdjsonImport().setBatchSize(batchSize);
+        try {
+            mockMvc.perform(post("/api/categories/import")
+                            .contentType("application/x-ndjson")
+                            .content(ndjson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.importedCount").value(3));
+        } finally {
+            categoryProperties.getNdjsonImport().setBatchSize(originalBatchSize);
+        }
+
+        Category shirts = categoryRepository.findBySlug("shirts").orElseThrow();
+        Category parent = categoryRepository.findById(shirts.getParentId()).orElseThrow();
+        assertThat(parent.getName()).isEqualTo("새 의류");
+    }
+
+    @Test
+    @DisplayName("NDJSON 적재 - 같은 slug의 기존 카테고리가 여러 개면 parentSlug 거부")
+    void importNdjsonAmbiguousParentSlug() throws Exception {
+        create(new CategoryRequest("의류", "clothing", null, 1));
+        create(new CategoryRequest("의류(아울렛)", "clothing", null, 2));
+
+        mockMvc.perform(post("/api/categories/import")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"parentSlug": "clothing", "name": "셔츠", "slug": "shirts"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_IMPORT"));
+    }
+
+    @Test
+    @DisplayName("NDJSON 적재 - 잘못된 행은 행 번호와 함께 전체 롤백")
+    void importNdjsonErrorCases() throws Exception {
+        // 부모보다 먼저 나온 자식
+        mockMvc.perform(post("/api/categories/import")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"id": 2, "parentId": 1, "name": "컴퓨터", "slug": "computer"}
+                                {"id": 1, "name": "전자제품", "slug": "electronics"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_IMPORT"));
+
+        // 잘못된 JSON
+        mockMvc.perform(post("/api/categories/import")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"id": 1, "name": "전자제품", "slug": "electronics"}
+                                {"id": 2, "name": 
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_IMPORT"));
+
+        // 존재하지 않는 parentSlug
+        mockMvc.perform(post("/api/categories/import")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"parentSlug": "missing", "name": "셔츠", "slug": "shirts"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_IMPORT"));
+    }
+
+    private void assertBulkRejected(List<CategoryBulkRequest.Item> items) throws Exception {
+        mockMvc.perform(post("/api/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryBulkRequest(items))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_BULK_REQUEST"));
+    }
+
+    private Long create(CategoryRequest request) throws Exception {
+        String response = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -0,0 +1,133 @@
+package com.musinsa.category.integration;
+
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.metrics.CategoryMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 테스트에서는 메트릭 내보내기가 꺼지므로 @AutoConfigureObservability로 Prometheus 레지스트리를 사용
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Transactional
+class CategoryMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long fashionId;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.deleteAll();
+
+        // 요청 중 자동 flush로 INSERT가 집계되지 않도록 바로 반영
+        fashionId = save("패션", "fashion", null, 1);
+        Long topId = save("상의", "top", fashionId, 1);
+        save("셔츠", "shirts", topId, 1);
+    }
+
+    private Long save(String name, String slug, Long parentId, int order) {
+        return categoryRepository.saveAndFlush(Category.builder()
+                .name(name)
+                .slug(slug)
+                .parentId(parentId)
+                .sortOrder(order)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("요청 메트릭 - URI 패턴별 SQL 문 수와 응답 바이트 수")
+    void requestMetrics() throws Exception {
+        DistributionSummary statementsBefore = summary(CategoryMetrics.HTTP_SQL_STATEMENTS, "/api/categories/{id}");
+        long countBefore = statementsBefore == null ? 0 : statementsBefore.count();
+        double bytesBefore = totalAmount(summary(CategoryMetrics.HTTP_RESPONSE_BYTES, "/api/categories/{id}"));
+
+        byte[] body = mockMvc.perform(get("/api/categories/{id}", fashionId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        DistributionSummary statements = summary(CategoryMetrics.HTTP_SQL_STATEMENTS, "/api/categories/{id}");
+        assertThat(statements.count()).isEqualTo(countBefore + 1);
+        assertThat(statements.max()).isGreaterThanOrEqualTo(1);
+        assertThat(totalAmount(summary(CategoryMetrics.HTTP_RESPONSE_BYTES, "/api/categories/{id}")) - bytesBefore)
+                .isEqualTo(body.length);
+    }
+
+    @Test
+    @DisplayName("서비스 메트릭 - BFS 루프와 트리 구성 시간")
+    void serviceTimers() throws Exception {
+        long bfsBefore = timerCount(CategoryMetrics.SUBTREE_BFS, null);
+        long buildBefore = timerCount(CategoryMetrics.TREE_BUILD, "tree");
+
+        mockMvc.perform(get("/api/categories").param("depth", "1"))
+                .andExpect(status().isOk());
+
+        assertThat(timerCount(CategoryMetrics.SUBTREE_BFS, null)).isEqualTo(bfsBefore + 1);
+        assertThat(timerCount(CategoryMetrics.TREE_BUILD, "tree")).isEqualTo(buildBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트 - 카테고리 메트릭 노출")
+    void prometheusEndpoint() throws Exception {
+        mockMvc.perform(get("/api/categories/{id}", fashionId))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(scrape)
+                .contains("category_http_sql_statements_count{")
+                .contains("category_http_sql_statements_bucket{")
+                .contains("category_http_response_bytes_sum{")
+                .contains("category_tree_build_seconds_count{")
+                .contains("category_tree_size")
+                .contains("category_tree_depth")
+                .contains("uri=\"/api/categories/{id}\"");
+    }
+
+    private DistributionSummary summary(String name, String uri) {
+        return meterRegistry.find(name).tag("uri", uri).tag("status", "200").summary();
+    }
+
+    private double totalAmount(DistributionSummary summary) {
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    private long timerCount(String name, String scope) {
+        Timer timer = scope == null
+                ? meterRegistry.find(name).timer()
+                : meterRegistry.find(name).tag("scope", scope).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,428 @@
+package com.musinsa.category.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.controller.CategoryController;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryBulkRequest;
+import com.musinsa.category.dto.request.CategoryMoveRequest;
+import com.musinsa.category.dto.request.CategoryOrderRequest;
+import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.metrics.CategoryMetrics;
+import com.musinsa.category.metrics.QueryBudget;
+import com.musinsa.category.service.CategoryUpdatingService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 컨트롤러 메서드별 SQL 문 수 고정 (N+1 회귀 방지)
+ * 쓰기 요청의 flush/커밋까지 실제와 같이 집계되도록 테스트 트랜잭션 없이 실행하고 직접 정리
+ * 테스트 설정: 트리 캐시 미사용, closure table 사용, 재귀 CTE 조회
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(CategoryQueryBudgetTest.OverBudgetController.class)
+class CategoryQueryBudgetTest {
+
+    // pooled 시퀀스는 ID 50개마다 조회하고 최초에는 2회 조회하므로 생성 요청에는 0~2회가 더해짐
+    private static final int MAX_SEQUENCE_CALLS = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryUpdatingService categoryUpdatingService;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    private CategoryProperties.SubtreeFetch originalSubtreeFetch;
+    private CategoryProperties.OnExceed originalOnExceed;
+    private Long fashionId;
+    private Long topId;
+    private Long shirtsId;
+    private Long sportsId;
+
+    @BeforeEach
+    void setUp() {
+        originalSubtreeFetch = categoryProperties.getSubtreeFetch();
+        originalOnExceed = categoryProperties.getQueryBudget().getOnExceed();
+        deleteAll();
+
+        /**
+         * 패션(1)
+         *   상의(1)
+         *     셔츠(1)
+         * 스포츠(2)
+         */
+        fashionId = create("패션", "fashion", null, 1);
+        topId = create("상의", "top", fashionId, 1);
+        shirtsId = create("셔츠", "shirts", topId, 1);
+        sportsId = create("스포츠", "sports", null, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryProperties.setSubtreeFetch(originalSubtreeFetch);
+        categoryProperties.getQueryBudget().setOnExceed(originalOnExceed);
+        deleteAll();
+    }
+
+    private void deleteAll() {
+        jdbcTemplate.update("DELETE FROM category_closure");
+        jdbcTemplate.update("DELETE FROM categories");
+    }
+
+    private Long create(String name, String slug, Long parentId, int order) {
+        return categoryUpdatingService.createCategory(new CategoryRequest(name, slug, parentId, order)).getId();
+    }
+
+    @Test
+    @DisplayName("조회 API - 메서드별 SQL 문 수")
+    void readStatements() throws Exception {
+        assertStatements("getAllCategories", "GET", "/api/categories", get("/api/categories"), 1);
+        // 재귀 CTE + 잘린 카테고리의 자식 수 (depth와 무관)
+        assertStatements("getAllCategories", "GET", "/api/categories",
+                get("/api/categories").param("depth", "1"), 2);
+        assertStatements("getAllCategories", "GET", "/api/categories",
+                get("/api/categories").param("depth", "5"), 2);
+        assertStatements("getCategoryWithChildren", "GET", "/api/categories/{id}",
+                get("/api/categories/{id}", fashionId), 1);
+        assertStatements("getCategoryWithChildren", "GET", "/api/categories/{id}",
+                get("/api/categories/{id}", fashionId).param("depth", "1"), 2);
+        assertStatements("getCategoryBySlug", "GET", "/api/categories/by-slug/{slug}",
+                get("/api/categories/by-slug/{slug}", "fashion"), 2);
+        // 경로 slug IN 조회 + 하위 트리 (단계 수와 무관)
+        assertStatements("getCategoryByPath", "GET", "/api/categories/by-path/{*path}",
+                get("/api/categories/by-path/fashion/top"), 2);
+        assertStatements("getCategoryByPath", "GET", "/api/categories/by-path/{*path}",
+                get("/api/categories/by-path/fashion/top/shirts"), 2);
+        assertStatements("getAncestors", "GET", "/api/categories/{id}/ancestors",
+                get("/api/categories/{id}/ancestors", shirtsId), 2);
+        assertStatements("getBreadcrumbs", "GET", "/api/categories/ancestors",
+                get("/api/categories/ancestors").param("ids", shirtsId + "," + topId + "," + sportsId), 2);
+        assertStatements("getChildren", "GET", "/api/categories/{id}/children",
+                get("/api/categories/{id}/children", fashionId), 2);
+    }
+
+    @Test
+    @DisplayName("내보내기 API - 카테고리 수와 관계없이 재귀 CTE 1회 (비동기 스레드의 JDBC 문까지 집계)")
+    void exportStatements() throws Exception {
+        assertThat(exportStatements("/api/categories/export")).isEqualTo(1);
+        assertThat(exportStatements("/api/categories/export/ndjson")).isEqualTo(1);
+
+        // 하위 카테고리가 늘어도 그대로
+        create("블라우스", "blouse", topId, 2);
+        create("러닝", "running", sportsId, 1);
+        assertThat(exportStatements("/api/categories/export")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카테고리 생성 - 부모 조회, INSERT + 경로 UPDATE, closure INSERT")
+    void createStatements() throws Exception {
+        int statements = statements("POST", "/api/categories", post("/api/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryRequest("니트", "knit", topId, 2))));
+
+        assertThat(statements).isBetween(4, 4 + MAX_SEQUENCE_CALLS).isLessThanOrEqualTo(budgetOf("createCategory"));
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 이름 변경 / 부모 변경")
+    void updateStatements() throws Exception {
+        // 대상 조회 + 부모 조회 + UPDATE
+        assertStatements("updateCategory", "PUT", "/api/categories/{id}", put("/api/categories/{id}", shirtsId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryRequest("셔츠/블라우스", "shirts", topId, 1))), 3);
+        // + 하위 경로 UPDATE + closure 끊기/연결
+        assertStatements("updateCategory", "PUT", "/api/categories/{id}", put("/api/categories/{id}", shirtsId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryRequest("셔츠/블라우스", "shirts", fashionId, 2))), 6);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 대상/부모 조회 + UPDATE + 하위 경로/최상위 ID UPDATE + closure 끊기/연결")
+    void moveStatements() throws Exception {
+        assertStatements("moveCategory", "POST", "/api/categories/{id}/move", post("/api/categories/{id}/move", topId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryMoveRequest(sportsId, null))), 6);
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 정렬순서 일괄 변경 - 부모 조회 + 하위 카테고리 조회 + UPDATE 배치 (카테고리 수와 무관)")
+    void reorderStatements() throws Exception {
+        Long knitId = create("니트", "knit", fashionId, 2);
+        Long outerId = create("아우터", "outer", fashionId, 3);
+
+        assertStatements("reorderChildren", "PUT", "/api/categories/{parentId}/children/order",
+                put("/api/categories/{parentId}/children/order", fashionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryOrderRequest(List.of(outerId, knitId, topId)))), 3);
+    }
+
+    @Test
+    @DisplayName("카테고리 비활성/활성 - 대상 조회 + 하위 트리 UPDATE (하위 카테고리 활성 시 상위 카테고리 조회 추가)")
+    void activationStatements() throws Exception {
+        assertStatements("deactivateCategory", "POST", "/api/categories/{id}/deactivate",
+                post("/api/categories/{id}/deactivate", fashionId), 2);
+        assertStatements("activateCategory", "POST", "/api/categories/{id}/activate",
+                post("/api/categories/{id}/activate", fashionId), 2);
+        assertStatements("deactivateCategory", "POST", "/api/categories/{id}/deactivate",
+                post("/api/categories/{id}/deactivate", topId), 2);
+        assertStatements("activateCategory", "POST", "/api/categories/{id}/activate",
+                post("/api/categories/{id}/activate", topId), 3);
+    }
+
+    @Test
+    @DisplayName("카테고리 삭제 - 삭제 대상 조회 + existsByParentId + soft delete + closure 삭제 (deleteById는 영속성 컨텍스트에서 찾음)")
+    void deleteStatements() throws Exception {
+        assertStatements("deleteCategory", "DELETE", "/api/categories/{id}", delete("/api/categories/{id}", shirtsId), 4);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 기존 부모 일괄 조회 + INSERT/UPDATE 배치 (closure는 JDBC 배치)")
+    void bulkStatements() throws Exception {
+        CategoryBulkRequest request = CategoryBulkRequest.builder()
+                .categories(List.of(
+                        CategoryBulkRequest.Item.builder().ref("outer").name("아우터").slug("outer").parentId(fashionId).order(2).build(),
+                        CategoryBulkRequest.Item.builder().parentRef("outer").name("코트").slug("coat").order(1).build()))
+                .build();
+
+        int statements = statements("POST", "/api/categories/bulk", post("/api/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        assertThat(statements).isBetween(3, 3 + MAX_SEQUENCE_CALLS);
+    }
+
+    @Test
+    @DisplayName("NDJSON 적재 - 묶음(batch-size 2)마다 부모 조회 + INSERT/UPDATE 배치")
+    void importStatements() throws Exception {
+        String body = """
+                {"id":1,"name":"아우터","slug":"outer","order":3}
+                {"id":2,"name":"코트","slug":"coat","parentId":1,"order":1}
+                {"name":"트렌치 코트","slug":"trench-coat","parentId":2,"order":1}
+                """;
+
+        int statements = statements("POST", "/api/categories/import", post("/api/categories/import")
+                .contentType("application/x-ndjson")
+                .content(body));
+
+        // 1번째 묶음: 부모가 같은 묶음 안에 있어 조회 없음, 2번째 묶음: 이전 묶음의 부모 조회
+        assertThat(statements).isBetween(5, 5 + MAX_SEQUENCE_CALLS);
+    }
+
+    @Test
+    @DisplayName("허용치 초과 - FAIL이면 500 QUERY_BUDGET_EXCEEDED")
+    void failWhenBudgetExceeded() throws Exception {
+        categoryProperties.getQueryBudget().setOnExceed(CategoryProperties.OnExceed.FAIL);
+
+        mockMvc.perform(get(OverBudgetController.URI))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode").value("QUERY_BUDGET_EXCEEDED"));
+        assertThat(meterRegistry.get(CategoryMetrics.HTTP_QUERY_BUDGET_EXCEEDED)
+                .tag("uri", OverBudgetController.URI)
+                .counter()
+                .count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용치 초과 - 이미 커밋된 쓰기 요청은 FAIL이어도 오류로 바꾸지 않음 (재시도로 인한 중복 방지)")
+    void writeNotFailedWhenBudgetExceeded() throws Exception {
+        categoryProperties.getQueryBudget().setOnExceed(CategoryProperties.OnExceed.FAIL);
+        double exceeded = meterRegistry.counter(CategoryMetrics.HTTP_QUERY_BUDGET_EXCEEDED, "uri", OverBudgetController.URI).count();
+
+        mockMvc.perform(post(OverBudgetController.URI))
+                .andExpect(status().isOk());
+        assertThat(meterRegistry.counter(CategoryMetrics.HTTP_QUERY_BUDGET_EXCEEDED, "uri", OverBudgetController.URI).count())
+                .isEqualTo(exceeded + 1);
+    }
+
+    @Test
+    @DisplayName("허용치 - 깊이마다 조회하는 BFS는 실행한 단계 수만큼 허용치가 늘어나 FAIL이어도 정상 응답")
+    void bfsAllowancePerLevel() throws Exception {
+        categoryProperties.setSubtreeFetch(CategoryProperties.SubtreeFetch.BFS);
+        categoryProperties.getQueryBudget().setOnExceed(CategoryProperties.OnExceed.FAIL);
+
+        // 자기 자신 + 3단계 (마지막 단계는 자식이 없음을 확인)
+        int statements = statements("GET", "/api/categories/{id}", get("/api/categories/{id}", fashionId));
+        assertThat(statements).isEqualTo(4).isGreaterThan(budgetOf("getCategoryWithChildren"));
+        mockMvc.perform(get("/api/categories/{id}", fashionId).param("depth", "1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("허용치 초과 - LOG면 정상 응답")
+    void logWhenBudgetExceeded() throws Exception {
+        categoryProperties.setSubtreeFetch(CategoryProperties.SubtreeFetch.BFS);
+        categoryProperties.getQueryBudget().setOnExceed(CategoryProperties.OnExceed.LOG);
+
+        mockMvc.perform(get("/api/categories/{id}", fashionId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].children[0].id").value(shirtsId));
+    }
+
+    /**
+     * 집계한 SQL 문 수가 고정값과 같고 컨트롤러에 지정한 허용치 이내인지 확인
+     */
+    private void assertStatements(String handler, String method, String uri, MockHttpServletRequestBuilder request,
+                                  int expected) throws Exception {
+        assertThat(statements(method, uri, request)).as(method + " " + uri).isEqualTo(expected);
+        assertThat(expected).as(handler + " budget").isLessThanOrEqualTo(budgetOf(handler));
+    }
+
+    private int statements(String method, String uri, MockHttpServletRequestBuilder request) throws Exception {
+        double before = totalStatements(method, uri);
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        return (int) (totalStatements(method, uri) - before);
+    }
+
+    /**
+     * 내보내기는 비동기 스레드에서 JdbcTemplate으로 조회하므로 Hibernate 집계(SqlStatementCounter)에 잡히지 않음
+     * 요청 동안 커넥션에서 준비된 JDBC 문 수를 스레드와 관계없이 직접 센다
+     */
+    private int exportStatements(String uri) throws Exception {
+        double before = totalStatements("GET", uri);
+        int jdbcBefore = JdbcStatementCountingConfig.STATEMENTS.get();
+        MvcResult result = mockMvc.perform(get(uri))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        assertThat(totalStatements("GET", uri) - before).isZero();
+        return JdbcStatementCountingConfig.STATEMENTS.get() - jdbcBefore;
+    }
+
+    private double totalStatements(String method, String uri) {
+        return meterRegistry.find(CategoryMetrics.HTTP_SQL_STATEMENTS)
+                .tag("uri", uri)
+                .tag("method", method)
+                .summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+    }
+
+    private int budgetOf(String handler) {
+        return Arrays.stream(CategoryController.class.getDeclaredMethods())
+                .filter(method -> method.getName().equals(handler))
+                .findFirst()
+                .map(method -> method.getAnnotation(QueryBudget.class).value())
+                .orElseThrow();
+    }
+
+    /**
+     * 고정 허용치(1)보다 SQL을 많이 실행하는 핸들러
+     */
+    @RestController
+    static class OverBudgetController {
+
+        static final String URI = "/api/test/over-budget";
+
+        private final CategoryRepository categoryRepository;
+
+        OverBudgetController(CategoryRepository categoryRepository) {
+            this.categoryRepository = categoryRepository;
+        }
+
+        @GetMapping(URI)
+        @QueryBudget(1)
+        public ResponseEntity<Integer> overBudget() {
+            categoryRepository.count();
+            return ResponseEntity.ok(categoryRepository.findAll().size());
+        }
+
+        @PostMapping(URI)
+        @QueryBudget(1)
+        public ResponseEntity<Integer> overBudgetWrite() {
+            return overBudget();
+        }
+    }
+
+    /**
+     * 모든 스레드에서 커넥션으로 준비한 JDBC 문 수 (Hibernate, JdbcTemplate 모두 포함)
+     */
+    @TestConfiguration
+    static class JdbcStatementCountingConfig {
+
+        static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) return bean;
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return counting(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.musinsa.category.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.config.CategoryProperties.SubtreeFetch;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.response.CategoryResponse;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import com.musinsa.category.service.CategoryClosureRebuildRunner;
+import com.musinsa.category.service.CategoryFetchingService;
+import com.musinsa.category.service.CategoryUpdatingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하위 카테고리 조회 방식별로 BFS와 동일한 결과를 반환하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CategorySubtreeFetchTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Autowired
+    private CategoryFetchingService categoryFetchingService;
+
+    @Autowired
+    private CategoryUpdatingService categoryUpdatingService;
+
+    @Autowired
+    private CategoryClosureRebuildRunner categoryClosureRebuildRunner;
+
+    @Autowired
+    private CategoryProperties categoryProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private SubtreeFetch originalSubtreeFetch;
+    private final List<Long> ids = new ArrayList<>();
+    private Long fashionId;
+    private Long shirtsId;
+    private Long oxfordId;
+    private Long sportsId;
+
+    @BeforeEach
+    void setUp() {
+        originalSubtreeFetch = categoryProperties.getSubtreeFetch();
+        categoryRepository.deleteAll();
+        categoryClosureRepository.deleteAllInBatch();
+
+        /**
+         * 패션(1)
+         *   상의(2)
+         *     셔츠(4)
+         *       옥스포드(6)
+         *     니트(5)
+         *   하의(3) - 비활성
+         *     청바지(7)
+         */
+        fashionId = save("패션", "fashion", null, 1, true);
+        Long top = save("상의", "top", fashionId, 2, true);
+        Long bottom = save("하의", "bottom", fashionId, 1, false);
+        shirtsId = save("셔츠", "shirts", top, 2, true);
+        save("니트", "knit", top, 1, true);
+        oxfordId = save("옥스포드", "oxford", shirtsId, 1, true);
+        save("청바지", "jeans", bottom, 1, true);
+        sportsId = save("스포츠", "sports", null, 2, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryProperties.setSubtreeFetch(originalSubtreeFetch);
+        categoryProperties.getClosureTable().setEnabled(true);
+    }
+
+    private Long save(String name, String slug, Long parentId, int sortOrder, boolean active) {
+        Category parent = parentId == null ? null : categoryRepository.findById(parentId).orElseThrow();
+        Category category = categoryRepository.save(Category.builder()
+                .name(name)
+                .slug(slug)
+                .parentId(parentId)
+                .ancestorId(parent == null ? null : (parent.getAncestorId() != null ? parent.getAncestorId() : parent.getId()))
+                .sortOrder(sortOrder)
+                .isActive(active)
+                .build());
+        category.assignPath(parent);
+        categoryClosureRepository.insertForNewCategory(category.getId(), parentId);
+        ids.add(category.getId());
+        return category.getId();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SubtreeFetch.class)
+    @DisplayName("조회 방식과 무관하게 BFS와 동일한 트리 반환")
+    void sameTreeAsBfs(SubtreeFetch subtreeFetch) throws Exception {
+        assertSameTreeAsBfs(subtreeFetch);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SubtreeFetch.class)
+    @DisplayName("하위 트리 이동 이후에도 BFS와 동일한 트리와 경로 반환")
+    void sameTreeAsBfsAfterMove(SubtreeFetch subtreeFetch) throws Exception {
+        // 셔츠(하위 포함)를 스포츠 아래로 이동
+        categoryUpdatingService.updateCategory(shirtsId, new CategoryRequest("셔츠", "shirts", sportsId, 1));
+
+        assertSameTreeAsBfs(subtreeFetch);
+
+        categoryProperties.setSubtreeFetch(subtreeFetch);
+        String sportsTree = objectMapper.writeValueAsString(categoryFetchingService.getCategoryWithChildren(sportsId));
+        assertThat(sportsTree).contains("셔츠", "옥스포드");
+        String fashionTree = objectMapper.writeValueAsString(categoryFetchingService.getCategoryWithChildren(fashionId));
+        assertThat(fashionTree).doesNotContain("셔츠", "옥스포드");
+        assertThat(categoryFetchingService.getAncestors(oxfordId).getData())
+                .extracting(CategoryResponse::getId)
+                .containsExactly(sportsId, shirtsId, oxfordId);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SubtreeFetch.class)
+    @DisplayName("depth 제한 조회 - 전체 트리를 depth 단계에서 자른 결과와 동일")
+    void depthLimitedSameAsTruncatedTree(SubtreeFetch subtreeFetch) throws Exception {
+        for (Long id : ids) {
+            categoryProperties.setSubtreeFetch(SubtreeFetch.BFS);
+            CategoryTreeResponse fullTree = categoryFetchingService.getCategoryWithChildren(id);
+
+            categoryProperties.setSubtreeFetch(subtreeFetch);
+            for (int depth = 0; depth <= 3; depth++) {
+                String expected = objectMapper.writeValueAsString(fullTree.truncate(depth));
+                String actual = objectMapper.writeValueAsString(categoryFetchingService.getCategoryWithChildren(id, depth));
+                assertThat(actual).as("category id %d, depth %d", id, depth).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("closure table 비활성 상태에서 이동/등록한 뒤 켜면 다시 채워 BFS와 동일한 트리 반환")
+    void rebuildClosureTableWhenStale() throws Exception {
+        assertThat(categoryClosureRebuildRunner.rebuildIfStale()).isFalse();
+
+        categoryProperties.getClosureTable().setEnabled(false);
+        categoryUpdatingService.updateCategory(shirtsId, new CategoryRequest("셔츠", "shirts", sportsId, 1));
+        categoryUpdatingService.createCategory(new CategoryRequest("러닝", "running", sportsId, 2));
+        categoryRepository.flush();
+        categoryProperties.getClosureTable().setEnabled(true);
+
+        assertThat(categoryClosureRepository.countStaleRows()).isPositive();
+        assertThat(categoryClosureRebuildRunner.rebuildIfStale()).isTrue();
+        assertThat(categoryClosureRepository.countStaleRows()).isZero();
+
+        assertSameTreeAsBfs(SubtreeFetch.CLOSURE);
+        categoryProperties.setSubtreeFetch(SubtreeFetch.CLOSURE);
+        assertThat(categoryFetchingService.getAncestors(oxfordId).getData())
+                .extracting(CategoryResponse::getId)
+                .containsExactly(sportsId, shirtsId, oxfordId);
+        assertThat(objectMapper.writeValueAsString(categoryFetchingService.getCategoryWithChildren(sportsId)))
+                .contains("러닝", "옥스포드");
+    }
+
+    private void assertSameTreeAsBfs(SubtreeFetch subtreeFetch) throws Exception {
+        for (Long id : ids) {
+            categoryProperties.setSubtreeFetch(SubtreeFetch.BFS);
+            String expected = objectMapper.writeValueAsString(categoryFetchingService.getCategoryWithChildren(id));
+
+            categoryProperties.setSubtreeFetch(subtreeFetch);
+            String actual = objectMapper.writeValueAsString(categoryFetchingService.getCategoryWithChildren(id));
+
+            assertThat(actual).as("category id %d", id).isEqualTo(expected);
+        }
+    }
+}
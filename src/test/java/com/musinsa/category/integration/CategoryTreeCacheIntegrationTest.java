@@ -0,0 +1,293 @@
+package com.musinsa.category.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.cache.CategoryTreeCache;
+import com.musinsa.category.cache.CategoryTreeSnapshot;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.response.PagingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 트리 스냅샷이 커밋 이후 교체되는지 검증
+ * 커밋이 필요하므로 테스트 트랜잭션을 사용하지 않는다
+ */
+@SpringBootTest(properties = "category.tree-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CategoryTreeCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.deleteAll();
+        categoryTreeCache.refresh();
+    }
+
+    @Test
+    @DisplayName("생성, 수정, 삭제 커밋 이후 스냅샷 교체")
+    void snapshotSwappedAfterCommit() throws Exception {
+        long initialVersion = categoryTreeCache.getSnapshot().getVersion();
+
+        // 1. 생성
+        CategoryRequest rootRequest = new CategoryRequest("전자제품", "electronics", null, 1);
+        String rootResponse = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rootRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long rootId = objectMapper.readTree(rootResponse).get("id").asLong();
+
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name").value("전자제품"));
+
+        // 2. 수정
+        CategoryRequest updateRequest = new CategoryRequest("가전", "appliances", null, 1);
+        mockMvc.perform(put("/api/categories/{id}", rootId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories/{id}", rootId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("가전"));
+
+        // 3. 삭제
+        mockMvc.perform(delete("/api/categories/{id}", rootId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+
+        assertThat(categoryTreeCache.getSnapshot().getVersion()).isEqualTo(initialVersion + 3);
+    }
+
+    @Test
+    @DisplayName("전체 조회 - ETag 일치 시 304, 트리 변경 시 새 ETag")
+    void allCategoriesConditionalGet() throws Exception {
+        createRoot("전자제품", "electronics");
+
+        String etag = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        createRoot("의류", "clothing");
+
+        String changedEtag = mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("전체 조회 - gzip 요청 시 미리 압축된 본문 반환")
+    void allCategoriesGzip() throws Exception {
+        createRoot("전자제품", "electronics");
+
+        String plain = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        MvcResult gzipResult = mockMvc.perform(get("/api/categories").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        byte[] compressed = gzipResult.getResponse().getContentAsByteArray();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+        }
+
+        mockMvc.perform(get("/api/categories")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipResult.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("하위 트리 조회 - 다른 가지가 바뀌어도 304, 하위가 바뀌면 새 ETag")
+    void subtreeConditionalGet() throws Exception {
+        Long topId = createRoot("상의", "top");
+        Long shirtsId = create(new CategoryRequest("셔츠", "shirts", topId, 1));
+        Long sportsId = createRoot("스포츠", "sports");
+
+        String topEtag = etagOf(topId);
+        String sportsEtag = etagOf(sportsId);
+
+        mockMvc.perform(get("/api/categories/{id}", topId).header(HttpHeaders.IF_NONE_MATCH, topEtag))
+                .andExpect(status().isNotModified());
+
+        // 상의 하위의 셔츠 이름 변경
+        mockMvc.perform(put("/api/categories/{id}", shirtsId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("셔츠/블라우스", "shirts", topId, 1))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories/{id}", sportsId).header(HttpHeaders.IF_NONE_MATCH, sportsEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/categories/{id}", topId).header(HttpHeaders.IF_NONE_MATCH, topEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].name").value("셔츠/블라우스"));
+        assertThat(etagOf(topId)).isNotEqualTo(topEtag);
+    }
+
+    @Test
+    @DisplayName("스냅샷 인덱스 - 부모 변경 커밋 이후 URL 경로와 breadcrumb 갱신")
+    void slugPathAndBreadcrumbsFollowReparent() throws Exception {
+        Long topId = createRoot("상의", "top");
+        Long sportsId = create(new CategoryRequest("스포츠", "sports", null, 2));
+        Long shirtsId = create(new CategoryRequest("셔츠", "shirts", topId, 1));
+
+        mockMvc.perform(get("/api/categories/by-path/top/shirts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(shirtsId));
+
+        mockMvc.perform(put("/api/categories/{id}", shirtsId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("셔츠", "shirts", sportsId, 1))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories/by-path/top/shirts"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/categories/by-path/sports/shirts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(shirtsId));
+        mockMvc.perform(get("/api/categories/ancestors").param("ids", String.valueOf(shirtsId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].ancestors[0].id").value(sportsId))
+                .andExpect(jsonPath("$.data[0].ancestors[1].id").value(shirtsId));
+    }
+
+    @Test
+    @DisplayName("부분 갱신 - 단건 변경을 반영한 전체 조회 응답이 전체 재적재 결과와 같음")
+    void patchedTreeMatchesReload() throws Exception {
+        Long topId = createRoot("상의", "top");
+        Long sportsId = create(new CategoryRequest("스포츠", "sports", null, 2));
+        Long shirtsId = create(new CategoryRequest("셔츠", "shirts", topId, 1));
+        create(new CategoryRequest("니트", "knit", topId, 2));
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+
+        long version = categoryTreeCache.getSnapshot().getVersion();
+        mockMvc.perform(put("/api/categories/{id}", shirtsId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("셔츠", "shirts", sportsId, 1))))
+                .andExpect(status().isOk());
+        assertThat(categoryTreeCache.getSnapshot().getVersion()).isEqualTo(version + 1);
+
+        MvcResult patched = mockMvc.perform(get("/api/categories").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String patchedPlain = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[1].children[0].id").value(shirtsId))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(patched.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(patchedPlain);
+        }
+
+        // 최상위 카테고리별 조각을 이어 붙인 본문이 DB에서 다시 적재한 트리를 한번에 직렬화한 결과와 같음
+        CategoryTreeSnapshot reloaded = categoryTreeCache.refresh();
+        assertThat(patchedPlain).isEqualTo(objectMapper.writeValueAsString(PagingResponse.of(reloaded.getRoots())));
+    }
+
+    @Test
+    @DisplayName("특정 카테고리 조회의 ETag를 수정/삭제의 If-Match로 사용 (앞의 버전으로 비교)")
+    void subtreeEtagUsableAsIfMatch() throws Exception {
+        Long topId = createRoot("상의", "top");
+        String etag = etagOf(topId);
+        assertThat(etag).startsWith("\"0-");
+
+        mockMvc.perform(put("/api/categories/{id}", topId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CategoryRequest("상의/아우터", "top", null, 1))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        // 그 사이 수정되었으면 412, 다시 조회한 ETag로는 성공
+        mockMvc.perform(delete("/api/categories/{id}", topId).header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+        String refreshed = etagOf(topId);
+        assertThat(refreshed).startsWith("\"1-").isNotEqualTo(etag);
+        mockMvc.perform(delete("/api/categories/{id}", topId).header(HttpHeaders.IF_MATCH, refreshed))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("depth 제한 조회의 ETag - 전체 조회와 구분되어 잘린 응답의 ETag로 전체 조회가 304가 되지 않음")
+    void truncatedEtagDiffersFromFull() throws Exception {
+        Long topId = createRoot("상의", "top");
+        create(new CategoryRequest("셔츠", "shirts", topId, 1));
+
+        String full = etagOf(topId);
+        String truncated = mockMvc.perform(get("/api/categories/{id}", topId).param("depth", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(truncated).isNotEqualTo(full).endsWith("-d0\"");
+
+        mockMvc.perform(get("/api/categories/{id}", topId).header(HttpHeaders.IF_NONE_MATCH, truncated))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/categories/{id}", topId).param("depth", "0").header(HttpHeaders.IF_NONE_MATCH, truncated))
+                .andExpect(status().isNotModified());
+    }
+
+    private String etagOf(Long id) throws Exception {
+        return mockMvc.perform(get("/api/categories/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Long createRoot(String name, String slug) throws Exception {
+        return create(new CategoryRequest(name, slug, null, 1));
+    }
+
+    private Long create(CategoryRequest request) throws Exception {
+        String response = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -0,0 +1,112 @@
+package com.musinsa.category.integration;
+
+import com.musinsa.category.MusinsaCategoryApplication;
+import com.musinsa.category.cache.CategoryTreeCache;
+import com.musinsa.category.cache.CategoryTreeSnapshot;
+import com.musinsa.category.domain.repository.CategoryTreeVersionRepository;
+import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import com.musinsa.category.service.CategoryUpdatingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 파일 모드 H2를 쓰는 애플리케이션 컨텍스트 두 개를 인스턴스 두 대로 보고 트리 캐시 동기화 검증
+ * writer에서 쓰고 reader의 트리 캐시에 poll-interval 이내로 반영되는지 확인
+ */
+class CategoryTreeSyncTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    private Path databaseDir;
+
+    private ConfigurableApplicationContext writer;
+    private ConfigurableApplicationContext reader;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:file:" + databaseDir.resolve("categorydb").toAbsolutePath();
+        // 스키마는 먼저 뜬 인스턴스만 생성
+        writer = start(url, "create");
+        reader = start(url, "none");
+    }
+
+    @AfterEach
+    void tearDown() {
+        reader.close();
+        writer.close();
+    }
+
+    private ConfigurableApplicationContext start(String url, String ddlAuto) {
+        return new SpringApplicationBuilder(MusinsaCategoryApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--category.tree-cache.enabled=true",
+                        "--category.tree-sync.enabled=true",
+                        "--category.tree-sync.poll-interval=100ms");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 생성/이동/삭제가 poll-interval 이내로 트리 캐시에 반영")
+    void otherInstanceWritesAreApplied() throws Exception {
+        CategoryUpdatingService writerService = writer.getBean(CategoryUpdatingService.class);
+        CategoryTreeCache readerCache = reader.getBean(CategoryTreeCache.class);
+        assertThat(readerCache.getSnapshot().size()).isZero();
+
+        Long topId = writerService.createCategory(new CategoryRequest("상의", "top", null, 1)).getId();
+        Long sportsId = writerService.createCategory(new CategoryRequest("스포츠", "sports", null, 2)).getId();
+        Long shirtsId = writerService.createCategory(new CategoryRequest("셔츠", "shirts", topId, 1)).getId();
+        await(() -> readerCache.getSnapshot().findByPath(List.of("top", "shirts")).isPresent());
+        assertThat(readerCache.getSnapshot().getRoots()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(topId, sportsId);
+
+        // 이동은 바뀐 카테고리만 반영 (전체 재적재 없이 버전 1 증가)
+        long version = readerCache.getSnapshot().getVersion();
+        writerService.updateCategory(shirtsId, new CategoryRequest("셔츠", "shirts", sportsId, 1));
+        await(() -> readerCache.getSnapshot().findByPath(List.of("sports", "shirts")).isPresent());
+        CategoryTreeSnapshot moved = readerCache.getSnapshot();
+        assertThat(moved.getVersion()).isEqualTo(version + 1);
+        assertThat(moved.find(topId).orElseThrow().getChildren()).isEmpty();
+
+        writerService.deleteCategory(shirtsId);
+        await(() -> readerCache.getSnapshot().find(shirtsId).isEmpty());
+        assertThat(readerCache.getSnapshot().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트리 버전 - 쓰기 트랜잭션마다 1 증가하고 두 인스턴스가 같은 행을 사용")
+    void versionBumpedPerWrite() {
+        CategoryTreeVersionRepository versionRepository = writer.getBean(CategoryTreeVersionRepository.class);
+        long before = versionRepository.findCurrentVersion().orElseThrow();
+
+        Long topId = writer.getBean(CategoryUpdatingService.class)
+                .createCategory(new CategoryRequest("상의", "top", null, 1)).getId();
+        reader.getBean(CategoryUpdatingService.class)
+                .updateCategory(topId, new CategoryRequest("상의/하의", "top", null, 1));
+
+        assertThat(versionRepository.findCurrentVersion()).contains(before + 2);
+        assertThat(reader.getBean(CategoryTreeVersionRepository.class).count()).isEqualTo(1);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("%s 이내에 반영되어야 함", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.musinsa.category.integration;
+
+import com.musinsa.category.config.CategoryProperties;
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
+import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.service.SyntheticCategoryGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 재시작(DDL)이 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SyntheticCategoryGeneratorTest {
+
+    @Autowired
+    private SyntheticCategoryGenerator syntheticCategoryGenerator;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteAll();
+    }
+
+    private void deleteAll() {
+        jdbcTemplate.update("DELETE FROM category_closure");
+        jdbcTemplate.update("DELETE FROM categories");
+    }
+
+    @Test
+    @DisplayName("합성 데이터 생성 - 개수, 깊이 제한, 경로, slug 충돌, closure 관계, 이후 ID 할당")
+    void generate() {
+        CategoryProperties.SyntheticData spec = new CategoryProperties.SyntheticData();
+        spec.setSize(500);
+        spec.setRootCount(3);
+        spec.setFanoutMin(2);
+        spec.setFanoutMax(4);
+        spec.setMaxDepth(3);
+        spec.setSlugCollisionRate(0.2);
+        spec.setSeed(7L);
+
+        syntheticCategoryGenerator.generate(spec);
+
+        List<Category> categories = categoryRepository.findAll();
+        Map<Long, Category> categoryMap = categories.stream().collect(Collectors.toMap(Category::getId, Function.identity()));
+        assertThat(categories).hasSize(500);
+
+        for (Category category : categories) {
+            assertThat(category.getPathIds()).hasSizeLessThanOrEqualTo(3).endsWith(category.getId());
+            if (category.hasParent()) {
+                Category parent = categoryMap.get(category.getParentId());
+                assertThat(category.getPath()).isEqualTo(parent.getPath() + category.getId() + Category.PATH_DELIMITER);
+                assertThat(category.getAncestorId()).isEqualTo(parent.getRootId());
+            }
+        }
+        // 3단계 * fanout 4로는 500개를 채울 수 없으므로 최상위 카테고리가 추가됨
+        assertThat(categories.stream().filter(category -> !category.hasParent()).count()).isGreaterThan(3);
+        assertThat(categories.stream().map(Category::getSlug).distinct().count()).isLessThan(500);
+        assertThat(categoryClosureRepository.count())
+                .isEqualTo(categories.stream().mapToLong(category -> category.getPathIds().size()).sum());
+
+        long maxGeneratedId = categoryMap.keySet().stream().mapToLong(Long::longValue).max().orElseThrow();
+        Category saved = categoryRepository.saveAndFlush(Category.builder()
+                .name("새 카테고리")
+                .slug("new-category")
+                .build());
+        assertThat(saved.getId()).isGreaterThan(maxGeneratedId);
+    }
+}
@@ -1,15 +1,18 @@
 package com.musinsa.category.service;
 
+import com.musinsa.category.cache.CategoryTreeCache;
+import com.musinsa.category.config.CategoryProperties;
 import com.musinsa.category.domain.entity.Category;
 import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.dto.response.CategoryResponse;
 import com.musinsa.category.dto.response.CategoryTreeResponse;
 import com.musinsa.category.dto.response.PagingResponse;
 import com.musinsa.category.exception.CategoryNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -25,7 +28,7 @@ class CategoryFetchingServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
-    @InjectMocks
+    private CategoryProperties categoryProperties;
     private CategoryFetchingService categoryFetchingService;
 
     private Category rootCategory1;
@@ -36,6 +39,14 @@ class CategoryFetchingServiceTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        // 기본은 DB BFS 조회 경로를 검증하고, 스냅샷/재귀 CTE 경로는 별도 테스트에서 활성화
+        categoryProperties = new CategoryProperties();
+        categoryProperties.getTreeCache().setEnabled(false);
+        categoryProperties.setSubtreeFetch(CategoryProperties.SubtreeFetch.BFS);
+        categoryFetchingService = new CategoryFetchingService(
+                categoryRepository, new CategoryTreeCache(categoryRepository, categoryProperties), categoryProperties,
+                new SimpleMeterRegistry());
+
         rootCategory1 = Category.builder()
                 .name("전자제품")
                 .slug("electronics")
@@ -199,4 +210,118 @@ class CategoryFetchingServiceTest {
         assertThat(response.getName()).isEqualTo("노트북");
         assertThat(response.getChildren()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("특정 카테고리와 하위 카테고리 조회 - 재귀 CTE 1회 조회")
+    void getCategoryWithChildren_RecursiveCte() {
+        // given
+        categoryProperties.setSubtreeFetch(CategoryProperties.SubtreeFetch.RECURSIVE_CTE);
+        Long categoryId = 1L;
+        when(categoryRepository.findSubtreeByRecursiveCte(categoryId))
+                .thenReturn(List.of(rootCategory1, childCategory1, grandChildCategory, childCategory2));
+
+        // when
+        CategoryTreeResponse response = categoryFetchingService.getCategoryWithChildren(categoryId);
+
+        // then
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getChildren()).extracting(CategoryTreeResponse::getId).containsExactly(3L, 4L);
+        assertThat(response.getChildren().get(0).getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(5L);
+
+        verify(categoryRepository, never()).findById(any());
+        verify(categoryRepository, never()).findAllByParentIdInAndIsActiveTrueOrderBySortOrderAsc(any());
+    }
+
+    @Test
+    @DisplayName("특정 카테고리와 하위 카테고리 조회 - 재귀 CTE 카테고리 없음")
+    void getCategoryWithChildren_RecursiveCteNotFound() {
+        // given
+        categoryProperties.setSubtreeFetch(CategoryProperties.SubtreeFetch.RECURSIVE_CTE);
+        when(categoryRepository.findSubtreeByRecursiveCte(999L)).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> categoryFetchingService.getCategoryWithChildren(999L))
+                .isInstanceOf(CategoryNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("특정 카테고리와 하위 카테고리 조회 - 경로 접두어 조회")
+    void getCategoryWithChildren_Path() {
+        // given
+        categoryProperties.setSubtreeFetch(CategoryProperties.SubtreeFetch.PATH);
+        rootCategory1.assignPath(null);
+        Long categoryId = 1L;
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(rootCategory1));
+        when(categoryRepository.findAllByPathStartingWithAndIdNotAndIsActiveTrueOrderBySortOrderAsc("/1/", categoryId))
+                .thenReturn(List.of(childCategory1, grandChildCategory, childCategory2));
+
+        // when
+        CategoryTreeResponse response = categoryFetchingService.getCategoryWithChildren(categoryId);
+
+        // then
+        assertThat(response.getChildren()).extracting(CategoryTreeResponse::getId).containsExactly(3L, 4L);
+        assertThat(response.getChildren().get(0).getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(5L);
+        verify(categoryRepository, never()).findAllByParentIdInAndIsActiveTrueOrderBySortOrderAsc(any());
+    }
+
+    @Test
+    @DisplayName("상위 카테고리 경로 조회 - 경로의 ID로 한번에 조회")
+    void getAncestors_ByPath() {
+        // given
+        rootCategory1.assignPath(null);
+        childCategory1.assignPath(rootCategory1);
+        grandChildCategory.assignPath(childCategory1);
+        when(categoryRepository.findById(5L)).thenReturn(Optional.of(grandChildCategory));
+        when(categoryRepository.findAllById(List.of(1L, 3L, 5L)))
+                .thenReturn(List.of(grandChildCategory, rootCategory1, childCategory1));
+
+        // when
+        PagingResponse<CategoryResponse> response = categoryFetchingService.getAncestors(5L);
+
+        // then
+        assertThat(response.getData()).extracting(CategoryResponse::getId).containsExactly(1L, 3L, 5L);
+        verify(categoryRepository, times(1)).findById(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 반복 조회 시 DB는 최초 1회만 조회")
+    void getAllCategories_FromSnapshot() {
+        // given
+        categoryProperties.getTreeCache().setEnabled(true);
+        List<Category> allCategories =
+                List.of(rootCategory1, rootCategory2, childCategory1, childCategory2, grandChildCategory);
+        when(categoryRepository.findAllByIsActiveTrueOrderBySortOrderAsc()).thenReturn(allCategories);
+
+        // when
+        PagingResponse<CategoryTreeResponse> first = categoryFetchingService.getAllCategories();
+        PagingResponse<CategoryTreeResponse> second = categoryFetchingService.getAllCategories();
+        CategoryTreeResponse child = categoryFetchingService.getCategoryWithChildren(3L);
+
+        // then
+        assertThat(first.getData()).hasSize(2);
+        assertThat(second.getData()).isSameAs(first.getData());
+        assertThat(first.getData().get(0).getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(3L, 4L);
+        assertThat(child.getChildren()).extracting(CategoryTreeResponse::getId).containsExactly(5L);
+
+        verify(categoryRepository, times(1)).findAllByIsActiveTrueOrderBySortOrderAsc();
+        verify(categoryRepository, never()).findById(any());
+        verify(categoryRepository, never()).findAllByParentIdInAndIsActiveTrueOrderBySortOrderAsc(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 스냅샷에 없는 카테고리는 DB에서 확인")
+    void getCategoryWithChildren_SnapshotMissFallsBackToDatabase() {
+        // given
+        categoryProperties.getTreeCache().setEnabled(true);
+        Long categoryId = 999L;
+        when(categoryRepository.findAllByIsActiveTrueOrderBySortOrderAsc()).thenReturn(List.of(rootCategory1));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> categoryFetchingService.getCategoryWithChildren(categoryId))
+                .isInstanceOf(CategoryNotFoundException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.musinsa.category.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CategoryIdMappingTest {
+
+    @Test
+    @DisplayName("ID 매핑 - 용량을 넘겨도 모든 매핑 유지")
+    void putAndGetAcrossResize() {
+        CategoryIdMapping mapping = new CategoryIdMapping(4);
+
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(mapping.putIfAbsent(id * 7, id + 1_000_000)).isTrue();
+        }
+
+        assertThat(mapping.size()).isEqualTo(10_000);
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(mapping.get(id * 7)).isEqualTo(id + 1_000_000);
+        }
+        assertThat(mapping.get(8)).isEqualTo(CategoryIdMapping.MISSING);
+    }
+
+    @Test
+    @DisplayName("ID 매핑 - 중복 키는 덮어쓰지 않음")
+    void duplicateKey() {
+        CategoryIdMapping mapping = new CategoryIdMapping();
+
+        assertThat(mapping.putIfAbsent(1L, 10L)).isTrue();
+        assertThat(mapping.putIfAbsent(1L, 20L)).isFalse();
+        assertThat(mapping.get(1L)).isEqualTo(10L);
+        assertThat(mapping.get(0L)).isEqualTo(CategoryIdMapping.MISSING);
+        assertThatThrownBy(() -> mapping.putIfAbsent(0L, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("slug 매핑 - 같은 slug는 나중 값으로 교체")
+    void slugLaterWins() {
+        CategoryIdMapping mapping = new CategoryIdMapping();
+
+        mapping.putSlug("clothing", 10L);
+        mapping.putSlug("clothing", 20L);
+        assertThat(mapping.getBySlug("clothing")).isEqualTo(20L);
+        assertThat(mapping.getBySlug("missing")).isEqualTo(CategoryIdMapping.MISSING);
+    }
+
+    @Test
+    @DisplayName("slug 매핑 - 용량을 넘겨도 모든 slug 유지 (slug 문자열은 보관하지 않음)")
+    void slugAcrossResize() {
+        CategoryIdMapping mapping = new CategoryIdMapping(4);
+
+        for (long id = 1; id <= 10_000; id++) {
+            mapping.putSlug("slug-" + id, id * 10);
+        }
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(mapping.getBySlug("slug-" + id)).isEqualTo(id * 10);
+        }
+        assertThat(mapping.size()).isZero();
+    }
+}
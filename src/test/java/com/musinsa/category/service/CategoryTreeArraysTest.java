@@ -0,0 +1,124 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.dto.response.CategoryTreeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryTreeArraysTest {
+
+    private Category category(Long id, Long parentId, int sortOrder) throws Exception {
+        Category category = Category.builder()
+                .parentId(parentId)
+                .name("category-" + id)
+                .slug("category-" + id)
+                .sortOrder(sortOrder)
+                .build();
+        var field = Category.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(category, id);
+        return category;
+    }
+
+    /**
+     * 루트 10개, 카테고리마다 자식 8개씩 BFS 순서로 채운 트리 (정렬 순서는 무작위)
+     */
+    private List<Category> syntheticTree(int size) throws Exception {
+        Random random = new Random(1);
+        List<Category> categories = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Long parentId = id <= 10 ? null : (id - 10 + 7) / 8;
+            categories.add(category(id, parentId, random.nextInt(100)));
+        }
+        categories.sort(Comparator.comparing(Category::getSortOrder));
+        return categories;
+    }
+
+    @Test
+    @DisplayName("배열 트리 - 형제는 정렬 순서, 부모가 목록에 없으면 루트")
+    void structure() throws Exception {
+        CategoryTreeArrays tree = CategoryTreeArrays.of(List.of(
+                category(4L, 2L, 1),
+                category(2L, 1L, 2),
+                category(3L, 1L, 1),
+                category(1L, null, 2),
+                category(5L, 99L, 1)));
+
+        assertThat(tree.size()).isEqualTo(5);
+        assertThat(tree.toRoots()).extracting(CategoryTreeResponse::getId).containsExactly(5L, 1L);
+
+        int top = tree.indexOf(1L);
+        assertThat(tree.category(tree.firstChild(top)).getId()).isEqualTo(3L);
+        assertThat(tree.category(tree.nextSibling(tree.firstChild(top))).getId()).isEqualTo(2L);
+        assertThat(tree.parent(tree.indexOf(4L))).isEqualTo(tree.indexOf(2L));
+        assertThat(tree.indexOf(99L)).isEqualTo(CategoryTreeArrays.NONE);
+
+        CategoryTreeResponse subtree = tree.toResponse(top);
+        assertThat(subtree.getChildren()).extracting(CategoryTreeResponse::getId).containsExactly(3L, 2L);
+        assertThat(subtree.getChildren().get(1).getChildren()).extracting(CategoryTreeResponse::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("배열 트리 - 정렬 순서가 같은 형제는 입력 순서와 관계없이 ID 순")
+    void sameSortOrderOrderedById() throws Exception {
+        CategoryTreeArrays tree = CategoryTreeArrays.of(List.of(
+                category(9L, null, 1),
+                category(8L, 1L, 1),
+                category(1L, null, 1),
+                category(2L, 1L, 1)));
+
+        assertThat(tree.toRoots()).extracting(CategoryTreeResponse::getId).containsExactly(1L, 9L);
+        assertThat(tree.toResponse(tree.indexOf(1L)).getChildren()).extracting(CategoryTreeResponse::getId)
+                .containsExactly(2L, 8L);
+    }
+
+    @Test
+    @DisplayName("배열 트리 - Map 기반 트리 구성과 같은 결과")
+    void sameTreeAsMapBasedBuilder() throws Exception {
+        List<Category> categories = syntheticTree(5_000);
+
+        assertThat(ids(CategoryTreeArrays.of(categories).toRoots())).isEqualTo(ids(buildWithMaps(categories)));
+    }
+
+    /**
+     * 전위 순회 ID 목록 (각 ID 뒤에 자식 수를 음수로 기록)
+     */
+    private List<Long> ids(List<CategoryTreeResponse> roots) {
+        List<Long> ids = new ArrayList<>();
+        Deque<CategoryTreeResponse> stack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) stack.push(roots.get(i));
+        while (!stack.isEmpty()) {
+            CategoryTreeResponse node = stack.pop();
+            ids.add(node.getId());
+            ids.add((long) -node.getChildren().size());
+            for (int i = node.getChildren().size() - 1; i >= 0; i--) stack.push(node.getChildren().get(i));
+        }
+        return ids;
+    }
+
+    /**
+     * 배열 기반으로 바꾸기 전의 트리 구성 (HashMap 노드 맵 + HashSet 자식 ID + 스트림 정렬)
+     * 할당량 비교는 TreeBuildBenchmark#buildTreeWithMaps (gc 프로파일러)
+     */
+    private List<CategoryTreeResponse> buildWithMaps(List<Category> categories) {
+        Map<Long, CategoryTreeResponse> nodeMap = categories.stream()
+                .collect(Collectors.toMap(Category::getId, CategoryTreeResponse::from));
+        Set<Long> childIds = new HashSet<>();
+        for (Category category : categories) {
+            if (category.hasParent() && nodeMap.containsKey(category.getParentId())) {
+                nodeMap.get(category.getParentId()).addChild(nodeMap.get(category.getId()));
+                childIds.add(category.getId());
+            }
+        }
+        return categories.stream()
+                .filter(category -> !childIds.contains(category.getId()))
+                .map(category -> nodeMap.get(category.getId()))
+                .sorted(Comparator.comparing(CategoryTreeResponse::getOrder))
+                .collect(Collectors.toList());
+    }
+}
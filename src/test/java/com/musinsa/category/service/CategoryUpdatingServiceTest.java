@@ -1,18 +1,30 @@
 package com.musinsa.category.service;
 
+import com.musinsa.category.config.CategoryProperties;
 import com.musinsa.category.domain.entity.Category;
+import com.musinsa.category.domain.repository.CategoryClosureRepository;
 import com.musinsa.category.domain.repository.CategoryRepository;
+import com.musinsa.category.domain.event.CategoryChangedEvent;
+import com.musinsa.category.dto.request.CategoryMoveRequest;
 import com.musinsa.category.dto.request.CategoryRequest;
+import com.musinsa.category.dto.response.CategoryActivationResponse;
 import com.musinsa.category.dto.response.CategoryResponse;
+import com.musinsa.category.dto.response.PagingResponse;
 import com.musinsa.category.exception.CategoryCannotDeleteException;
 import com.musinsa.category.exception.CategoryNotFoundException;
+import com.musinsa.category.exception.CategoryPathMissingException;
+import com.musinsa.category.exception.CategoryVersionMismatchException;
+import com.musinsa.category.exception.InvalidCategoryMoveException;
+import com.musinsa.category.exception.InvalidCategoryOrderException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +40,15 @@ class CategoryUpdatingServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Spy
+    private CategoryProperties categoryProperties = new CategoryProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryUpdatingService categoryUpdatingService;
 
@@ -155,6 +176,212 @@ class CategoryUpdatingServiceTest {
         verify(categoryRepository).findById(1L);
     }
 
+    @Test
+    @DisplayName("카테고리 수정 - 부모 변경 시 하위 경로/최상위 카테고리 ID 일괄 변경")
+    void updateCategory_ChangeParentRewritesPath() throws Exception {
+        // given
+        Category newParent = Category.builder()
+                .name("의류")
+                .slug("clothing")
+                .sortOrder(2)
+                .build();
+        setId(newParent, 3L);
+        parentCategory.assignPath(null);
+        newParent.assignPath(null);
+        childCategory.assignPath(parentCategory);
+
+        CategoryRequest request = new CategoryRequest("컴퓨터", "computer", 3L, 1);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+        when(categoryRepository.findById(3L)).thenReturn(Optional.of(newParent));
+
+        // when
+        categoryUpdatingService.updateCategory(2L, request);
+
+        // then
+        assertThat(childCategory.getPath()).isEqualTo("/3/2/");
+        verify(categoryRepository).moveSubtree("/1/2/", "/3/2/", 3L);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 하위 트리 경로/최상위 카테고리 ID 일괄 변경, 정렬순서 유지")
+    void moveCategory_RewritesSubtree() throws Exception {
+        // given
+        categoryProperties.getClosureTable().setEnabled(true);
+        Category newParent = Category.builder()
+                .name("의류")
+                .slug("clothing")
+                .sortOrder(2)
+                .build();
+        setId(newParent, 3L);
+        parentCategory.assignPath(null);
+        newParent.assignPath(null);
+        childCategory.assignPath(parentCategory);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+        when(categoryRepository.findById(3L)).thenReturn(Optional.of(newParent));
+
+        // when
+        CategoryResponse response = categoryUpdatingService.moveCategory(2L, new CategoryMoveRequest(3L, null));
+
+        // then
+        assertThat(response.getParentId()).isEqualTo(3L);
+        assertThat(response.getOrder()).isEqualTo(1);
+        assertThat(response.getName()).isEqualTo("컴퓨터");
+        assertThat(childCategory.getAncestorId()).isEqualTo(3L);
+        verify(categoryRepository).moveSubtree("/1/2/", "/3/2/", 3L);
+        verify(categoryClosureRepository).detachSubtree(2L);
+        verify(categoryClosureRepository).attachSubtree(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 최상위로 이동하면 자신이 하위 카테고리의 최상위")
+    void moveCategory_ToRoot() {
+        // given
+        parentCategory.assignPath(null);
+        childCategory.assignPath(parentCategory);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+
+        // when
+        categoryUpdatingService.moveCategory(2L, new CategoryMoveRequest(null, 5));
+
+        // then
+        assertThat(childCategory.getAncestorId()).isNull();
+        assertThat(childCategory.getSortOrder()).isEqualTo(5);
+        verify(categoryRepository).moveSubtree("/1/2/", "/2/", 2L);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 - 자기 자신이나 하위 카테고리 아래로 이동 불가")
+    void moveCategory_IntoOwnSubtree() {
+        // given
+        parentCategory.assignPath(null);
+        childCategory.assignPath(parentCategory);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+
+        // when & then
+        assertThatThrownBy(() -> categoryUpdatingService.moveCategory(1L, new CategoryMoveRequest(2L, null)))
+                .isInstanceOf(InvalidCategoryMoveException.class);
+        assertThatThrownBy(() -> categoryUpdatingService.moveCategory(1L, new CategoryMoveRequest(1L, null)))
+                .isInstanceOf(InvalidCategoryMoveException.class);
+
+        assertThat(parentCategory.getParentId()).isNull();
+        verify(categoryRepository, never()).moveSubtree(any(), any(), any());
+        verifyNoInteractions(categoryClosureRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("카테고리 생성 - closure table 관계 추가")
+    void createCategory_InsertsClosureRows() throws Exception {
+        // given
+        categoryProperties.getClosureTable().setEnabled(true);
+        CategoryRequest request = new CategoryRequest("스마트폰", "smartphone", 1L, 2);
+        Category savedCategory = Category.builder()
+                .name("스마트폰")
+                .slug("smartphone")
+                .parentId(1L)
+                .sortOrder(2)
+                .build();
+        setId(savedCategory, 3L);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.save(any(Category.class))).thenReturn(savedCategory);
+
+        // when
+        categoryUpdatingService.createCategory(request);
+
+        // then
+        verify(categoryClosureRepository).insertForNewCategory(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 부모 변경 시 closure table 하위 트리 재연결")
+    void updateCategory_ChangeParentMovesClosureSubtree() throws Exception {
+        // given
+        categoryProperties.getClosureTable().setEnabled(true);
+        CategoryRequest request = new CategoryRequest("컴퓨터", "computer", null, 1);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+
+        // when
+        categoryUpdatingService.updateCategory(2L, request);
+
+        // then
+        verify(categoryClosureRepository).detachSubtree(2L);
+        verify(categoryClosureRepository, never()).attachSubtree(any(), any());
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 부모가 그대로면 closure table 변경 없음")
+    void updateCategory_SameParentKeepsClosure() {
+        // given
+        categoryProperties.getClosureTable().setEnabled(true);
+        CategoryRequest request = new CategoryRequest("데스크탑", "desktop", 1L, 1);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+
+        // when
+        categoryUpdatingService.updateCategory(2L, request);
+
+        // then
+        verifyNoInteractions(categoryClosureRepository);
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 자기 자신이나 하위 카테고리를 부모로 지정하면 순환이므로 거부 (경로로 판단, 추가 조회 없음)")
+    void updateCategory_CycleRejected() {
+        // given
+        parentCategory.assignPath(null);
+        childCategory.assignPath(parentCategory);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+
+        // when & then
+        assertThatThrownBy(() -> categoryUpdatingService.updateCategory(1L,
+                new CategoryRequest("전자제품", "electronics", 2L, 1)))
+                .isInstanceOf(InvalidCategoryMoveException.class);
+        assertThatThrownBy(() -> categoryUpdatingService.updateCategory(1L,
+                new CategoryRequest("전자제품", "electronics", 1L, 1)))
+                .isInstanceOf(InvalidCategoryMoveException.class);
+
+        assertThat(parentCategory.getParentId()).isNull();
+        verify(categoryRepository, never()).existsInAncestorChain(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 경로가 없으면 새 부모의 조상 체인을 한번에 조회하여 순환 확인")
+    void updateCategory_CycleRejectedWithoutPath() {
+        // given
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+        when(categoryRepository.existsInAncestorChain(2L, 1L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> categoryUpdatingService.updateCategory(1L,
+                new CategoryRequest("전자제품", "electronics", 2L, 1)))
+                .isInstanceOf(InvalidCategoryMoveException.class);
+        verify(categoryRepository).existsInAncestorChain(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 수정/삭제 - If-Match 버전이 현재 버전과 다르면 412 예외")
+    void updateAndDelete_VersionMismatch() throws Exception {
+        // given
+        var version = Category.class.getDeclaredField("version");
+        version.setAccessible(true);
+        version.set(childCategory, 3L);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+
+        // when & then
+        assertThatThrownBy(() -> categoryUpdatingService.updateCategory(2L,
+                new CategoryRequest("데스크탑", "desktop", 1L, 1), 2L))
+                .isInstanceOf(CategoryVersionMismatchException.class);
+        assertThatThrownBy(() -> categoryUpdatingService.deleteCategory(2L, 2L))
+                .isInstanceOf(CategoryVersionMismatchException.class);
+
+        assertThat(childCategory.getName()).isEqualTo("컴퓨터");
+        verify(categoryRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("카테고리 수정 - 카테고리 없음")
     void updateCategory_CategoryNotFound() {
@@ -171,12 +398,134 @@ class CategoryUpdatingServiceTest {
         verify(categoryRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("하위 카테고리 정렬순서 일괄 변경 - 전달한 순서대로 1부터, flush 1회와 BULK 이벤트 1건")
+    void reorderChildren_Success() throws Exception {
+        // given
+        Category tablet = Category.builder()
+                .parentId(1L)
+                .name("태블릿")
+                .slug("tablet")
+                .sortOrder(2)
+                .build();
+        setId(tablet, 3L);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.findAllByParentIdAndIsActiveTrueOrderBySortOrderAscIdAsc(1L))
+                .thenReturn(List.of(childCategory, tablet));
+
+        // when
+        PagingResponse<CategoryResponse> response = categoryUpdatingService.reorderChildren(1L, List.of(3L, 2L));
+
+        // then
+        assertThat(response.getData()).extracting(CategoryResponse::getId).containsExactly(3L, 2L);
+        assertThat(tablet.getSortOrder()).isEqualTo(1);
+        assertThat(childCategory.getSortOrder()).isEqualTo(2);
+        verify(categoryRepository).flush();
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof CategoryChangedEvent changed && changed.isBulk()));
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 정렬순서 일괄 변경 - 누락/중복/다른 카테고리가 있으면 거부")
+    void reorderChildren_Invalid() {
+        // given
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.findAllByParentIdAndIsActiveTrueOrderBySortOrderAscIdAsc(1L))
+                .thenReturn(List.of(childCategory));
+
+        // when & then
+        for (List<Long> ids : List.of(List.<Long>of(), List.of(2L, 2L), List.of(2L, 9L), List.of(9L))) {
+            assertThatThrownBy(() -> categoryUpdatingService.reorderChildren(1L, ids))
+                    .isInstanceOf(InvalidCategoryOrderException.class);
+        }
+        assertThat(childCategory.getSortOrder()).isEqualTo(1);
+        verify(categoryRepository, never()).flush();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("카테고리 비활성 - 하위 트리를 UPDATE 1회로 변경하고 BULK 이벤트 1건 발행")
+    void deactivateCategory_Subtree() {
+        // given
+        parentCategory.assignPath(null);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.updateSubtreeActive("/1/", false)).thenReturn(2);
+
+        // when
+        CategoryActivationResponse response = categoryUpdatingService.deactivateCategory(1L);
+
+        // then
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.isActive()).isFalse();
+        assertThat(response.getAffectedCount()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof CategoryChangedEvent changed && changed.isBulk()));
+    }
+
+    @Test
+    @DisplayName("카테고리 활성 - 바뀐 카테고리가 없으면 이벤트 없음")
+    void activateCategory_AlreadyActive() {
+        // given
+        parentCategory.assignPath(null);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.updateSubtreeActive("/1/", true)).thenReturn(0);
+
+        // when
+        CategoryActivationResponse response = categoryUpdatingService.activateCategory(1L);
+
+        // then
+        assertThat(response.getAffectedCount()).isZero();
+        assertThat(response.getParentActive()).isTrue();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("카테고리 활성 - 상위 카테고리가 비활성이면 parentActive false로 알림")
+    void activateCategory_UnderInactiveParent() throws Exception {
+        // given
+        Category inactiveParent = Category.builder()
+                .name("전자제품")
+                .slug("electronics")
+                .sortOrder(1)
+                .isActive(false)
+                .build();
+        setId(inactiveParent, 1L);
+        inactiveParent.assignPath(null);
+        childCategory.assignPath(inactiveParent);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(childCategory));
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(inactiveParent));
+        when(categoryRepository.updateSubtreeActive("/1/2/", true)).thenReturn(1);
+
+        // when
+        CategoryActivationResponse response = categoryUpdatingService.activateCategory(2L);
+
+        // then
+        assertThat(response.isActive()).isTrue();
+        assertThat(response.getAffectedCount()).isEqualTo(1);
+        assertThat(response.getParentActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리 비활성/활성 - 경로가 없으면 0건 성공 대신 400 예외")
+    void changeSubtreeActive_PathMissing() {
+        // given
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+
+        // when & then
+        assertThatThrownBy(() -> categoryUpdatingService.deactivateCategory(1L))
+                .isInstanceOf(CategoryPathMissingException.class);
+        assertThatThrownBy(() -> categoryUpdatingService.activateCategory(1L))
+                .isInstanceOf(CategoryPathMissingException.class);
+        verify(categoryRepository, never()).updateSubtreeActive(any(), anyBoolean());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("카테고리 삭제 - 성공")
     void deleteCategory_Success() {
         // given
         Long categoryId = 2L;
-        when(categoryRepository.existsById(categoryId)).thenReturn(true);
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(childCategory));
         when(categoryRepository.existsByParentId(categoryId)).thenReturn(false);
 
         // when
@@ -184,7 +533,7 @@ class CategoryUpdatingServiceTest {
 
         // then
         assertThat(result).isTrue();
-        verify(categoryRepository).existsById(categoryId);
+        verify(categoryRepository).findById(categoryId);
         verify(categoryRepository).existsByParentId(categoryId);
         verify(categoryRepository).deleteById(categoryId);
     }
@@ -194,14 +543,14 @@ class CategoryUpdatingServiceTest {
     void deleteCategory_HasChildren() {
         // given
         Long categoryId = 1L;
-        when(categoryRepository.existsById(categoryId)).thenReturn(true);
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(parentCategory));
         when(categoryRepository.existsByParentId(categoryId)).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> categoryUpdatingService.deleteCategory(categoryId))
                 .isInstanceOf(CategoryCannotDeleteException.class);
         
-        verify(categoryRepository).existsById(categoryId);
+        verify(categoryRepository).findById(categoryId);
         verify(categoryRepository).existsByParentId(categoryId);
         verify(categoryRepository, never()).deleteById(any());
     }
@@ -211,13 +560,13 @@ class CategoryUpdatingServiceTest {
     void deleteCategory_CategoryNotFound() {
         // given
         Long categoryId = 999L;
-        when(categoryRepository.existsById(categoryId)).thenReturn(false);
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> categoryUpdatingService.deleteCategory(categoryId))
                 .isInstanceOf(CategoryNotFoundException.class);
         
-        verify(categoryRepository).existsById(categoryId);
+        verify(categoryRepository).findById(categoryId);
         verify(categoryRepository, never()).existsByParentId(any());
         verify(categoryRepository, never()).deleteById(any());
     }